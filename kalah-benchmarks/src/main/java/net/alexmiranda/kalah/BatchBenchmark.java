@@ -0,0 +1,83 @@
+package net.alexmiranda.kalah;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Replays the same random games both ways; scores are per game and round.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@OperationsPerInvocation(BatchBenchmark.GAMES * BatchBenchmark.ROUNDS)
+public class BatchBenchmark {
+    static final int GAMES = 1024;
+    static final int ROUNDS = 32;
+
+    @Param({ "6" })
+    int houses;
+
+    @Param({ "4", "6" })
+    int seeds;
+
+    private int[][] rounds;
+    private Game[] games;
+    private GameBatch batch;
+    private MoveResult[] results;
+
+    @Setup
+    public void setUp() {
+        var random = new SplittableRandom(42);
+        this.rounds = new int[ROUNDS][GAMES];
+        this.games = new Game[GAMES];
+        for (int g = 0; g < GAMES; g++) {
+            this.games[g] = new Game(this.houses, this.seeds);
+            for (int round = 0; round < ROUNDS; round++) {
+                var game = this.games[g];
+                int move = game.isOver() ? -1 : Playouts.randomMove(game, random);
+                if (move >= 0) {
+                    game.play(move);
+                }
+                this.rounds[round][g] = move;
+            }
+        }
+        this.batch = new GameBatch(this.houses, this.seeds, GAMES);
+        this.results = new MoveResult[GAMES];
+    }
+
+    @Benchmark
+    public GameBatch batch() {
+        this.batch.reset();
+        for (int[] moves : this.rounds) {
+            this.batch.play(moves, this.results);
+        }
+        return this.batch;
+    }
+
+    @Benchmark
+    public Game[] oneByOne() {
+        for (var game : this.games) {
+            game.reset();
+        }
+        for (int[] moves : this.rounds) {
+            for (int g = 0; g < GAMES; g++) {
+                this.games[g].tryPlay(moves[g]);
+            }
+        }
+        return this.games;
+    }
+}
@@ -0,0 +1,129 @@
+package net.alexmiranda.kalah;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBenchmark {
+    private static final int POSITIONS = 64;
+
+    @Param({ "4", "6", "12" })
+    int houses;
+
+    @Param({ "3", "4", "6" })
+    int seeds;
+
+    private GameSnapshot opening;
+    private int openingMove;
+    private GameSnapshot[] midGames;
+    private int[] midGameMoves;
+    private int next;
+    private int[] recorded;
+    private Game reused;
+    private GamePool pool;
+
+    @Setup
+    public void setUp() {
+        var random = new SplittableRandom(42);
+        this.opening = new Game(this.houses, this.seeds).snapshot();
+        this.openingMove = this.opening.houseIndex(Player.A, 1);
+        this.reused = new Game(this.houses, this.seeds);
+        this.recorded = Playouts.record(this.houses, this.seeds, random);
+        this.pool = new GamePool(this.houses, this.seeds, 1);
+        this.midGames = new GameSnapshot[POSITIONS];
+        this.midGameMoves = new int[POSITIONS];
+        for (int i = 0; i < POSITIONS; i++) {
+            Game game;
+            do {
+                game = Playouts.midGame(this.houses, this.seeds, 2 * this.houses, random);
+            } while (game.isOver());
+            this.midGames[i] = game.snapshot();
+            this.midGameMoves[i] = Playouts.randomMove(game, random);
+        }
+    }
+
+    @Benchmark
+    public Game newGame() {
+        return new Game(this.houses, this.seeds);
+    }
+
+    @Benchmark
+    public Game resetGame() {
+        this.reused.reset();
+        return this.reused;
+    }
+
+    @Benchmark
+    public Game pooledGame() {
+        var game = this.pool.acquire();
+        this.pool.release(game);
+        return game;
+    }
+
+    @Benchmark
+    public Game playOpening() {
+        var game = this.opening.toGame();
+        game.play(this.openingMove);
+        return game;
+    }
+
+    @Benchmark
+    public Game playMidGame() {
+        int i = this.next++ & (POSITIONS - 1);
+        var game = this.midGames[i].toGame();
+        game.play(this.midGameMoves[i]);
+        return game;
+    }
+
+    @Benchmark
+    public MoveAnalysis analyzeMoves() {
+        int i = this.next++ & (POSITIONS - 1);
+        return this.midGames[i].analyzeMoves();
+    }
+
+    @Benchmark
+    public Game replayOneByOne() {
+        this.reused.reset();
+        for (int pit : this.recorded) {
+            this.reused.play(pit);
+        }
+        return this.reused;
+    }
+
+    @Benchmark
+    public Game replayAll() {
+        this.reused.reset();
+        this.reused.playAll(this.recorded);
+        return this.reused;
+    }
+
+    @Benchmark
+    public void pitsAfterEachMove(Blackhole bh) {
+        var random = new SplittableRandom(this.next++);
+        var game = new Game(this.houses, this.seeds);
+        while (!game.isOver()) {
+            game.play(Playouts.randomMove(game, random));
+            for (var entry : game.pits().entrySet()) {
+                bh.consume(entry.getValue());
+            }
+        }
+    }
+}
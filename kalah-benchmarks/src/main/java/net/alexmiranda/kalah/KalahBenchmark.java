@@ -0,0 +1,48 @@
+package net.alexmiranda.kalah;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KalahBenchmark {
+    @Param({ "4", "6", "12" })
+    int houses;
+
+    @Param({ "3", "4", "6", "1000" })
+    int seeds;
+
+    @Benchmark
+    public String plan() {
+        return Kalah.plan("A1", this.houses, this.seeds);
+    }
+
+    @Benchmark
+    public int planIndex() {
+        return Kalah.plan(0, this.houses, this.seeds);
+    }
+
+    @Benchmark
+    public Object[] forwardSequence() {
+        return Kalah.forwardSequence("A1", this.houses).limit(this.seeds).toArray();
+    }
+
+    @Benchmark
+    public int[] forwardSequenceIndex() {
+        return Kalah.forwardSequence(0, this.houses).limit(this.seeds).toArray();
+    }
+}
@@ -0,0 +1,48 @@
+package net.alexmiranda.kalah;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayoutBenchmark {
+    @Param({ "4", "6", "12" })
+    int houses;
+
+    @Param({ "3", "4", "6" })
+    int seeds;
+
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() {
+        this.random = new SplittableRandom(42);
+    }
+
+    @Benchmark
+    public int randomPlayout() {
+        var game = new Game(this.houses, this.seeds);
+        int moves = 0;
+        while (!game.isOver()) {
+            game.play(Playouts.randomMove(game, this.random));
+            moves++;
+        }
+        return moves;
+    }
+}
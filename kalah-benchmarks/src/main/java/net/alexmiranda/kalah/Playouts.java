@@ -0,0 +1,44 @@
+package net.alexmiranda.kalah;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+final class Playouts {
+    private Playouts() {
+    }
+
+    static int randomMove(Game game, SplittableRandom random) {
+        int houses = game.houses();
+        int n = 1 + random.nextInt(houses);
+        for (int i = 0; i < houses; i++) {
+            int pit = game.houseIndex(game.player(), n);
+            if (game.seedsAt(pit) > 0) {
+                return pit;
+            }
+            n = n == houses ? 1 : n + 1;
+        }
+        throw new IllegalStateException("no legal move");
+    }
+
+    static Game midGame(int houses, int seeds, int moves, SplittableRandom random) {
+        var game = new Game(houses, seeds);
+        for (int i = 0; i < moves && !game.isOver(); i++) {
+            game.play(randomMove(game, random));
+        }
+        return game;
+    }
+
+    static int[] record(int houses, int seeds, SplittableRandom random) {
+        var game = new Game(houses, seeds);
+        var moves = new int[16];
+        int count = 0;
+        while (!game.isOver()) {
+            if (count == moves.length) {
+                moves = Arrays.copyOf(moves, count * 2);
+            }
+            moves[count] = randomMove(game, random);
+            game.play(moves[count++]);
+        }
+        return Arrays.copyOf(moves, count);
+    }
+}
@@ -0,0 +1,52 @@
+package net.alexmiranda.kalah;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SowingBenchmark {
+    @Param({ "6", "12", "48" })
+    int houses;
+
+    @Param({ "100", "10000", "1000000" })
+    int seeds;
+
+    private GameSnapshot opening;
+    private int move;
+
+    @Setup
+    public void setUp() {
+        this.opening = new Game(this.houses, this.seeds).snapshot();
+        this.move = this.opening.houseIndex(Player.A, this.houses);
+    }
+
+    @Benchmark
+    public Game longSowingMove() {
+        var game = this.opening.toGame();
+        game.play(this.move);
+        return game;
+    }
+
+    @Benchmark
+    public LongGame longCountersSowingMove() {
+        var game = new LongGame(this.houses, this.seeds * 1000L);
+        game.play(this.move);
+        return game;
+    }
+}
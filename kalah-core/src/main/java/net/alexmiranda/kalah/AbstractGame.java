@@ -0,0 +1,72 @@
+package net.alexmiranda.kalah;
+
+// The move API the engines share: positions are parsed and checked here,
+// and each engine only looks pits up on its board and applies a legal move.
+abstract class AbstractGame extends Turn {
+    public void play(String position) {
+        int pit = this.indexOf(position);
+        if (pit >= 0) {
+            this.play(pit);
+            return;
+        }
+        throw new NoSuchPositionException(position);
+    }
+
+    public void play(int pit) {
+        this.checkPosition(pit);
+        if (this.state == GameState.FINISHED) {
+            throw GameOverException.INSTANCE;
+        }
+        switch (this.check(pit)) {
+            case STORE -> throw CannotPlayOnStoreException.INSTANCE;
+            case EMPTY_HOUSE -> throw HouseEmptyException.INSTANCE;
+            case NOT_YOUR_HOUSE -> throw OpponentHouseException.INSTANCE;
+            default -> this.apply(pit);
+        }
+    }
+
+    public MoveResult tryPlay(String position) {
+        int pit = this.indexOf(position);
+        return pit >= 0 ? this.tryPlay(pit) : MoveResult.UNKNOWN;
+    }
+
+    public MoveResult tryPlay(int pit) {
+        if (pit < 0 || pit >= this.length()) {
+            return MoveResult.UNKNOWN;
+        } else if (this.state == GameState.FINISHED) {
+            return MoveResult.GAME_OVER;
+        }
+
+        var result = this.check(pit);
+        if (result == MoveResult.OK) {
+            this.apply(pit);
+        }
+        return result;
+    }
+
+    public boolean isOver() {
+        return this.isOver;
+    }
+
+    public Player player() {
+        return this.player;
+    }
+
+    // the pit of a position name, or -1 if there is no such pit
+    abstract int indexOf(String position);
+
+    abstract int length();
+
+    // the board's verdict on the player to move sowing the pit
+    abstract MoveResult check(int pit);
+
+    // plays a pit that check accepted; each engine sows on its own board and
+    // leaves captures, extra turns and game over to the GameState transitions
+    abstract void apply(int pit);
+
+    void checkPosition(int pit) {
+        if (pit < 0 || pit >= this.length()) {
+            throw new NoSuchPositionException(String.valueOf(pit));
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package net.alexmiranda.kalah;
+
+interface BatchEngine {
+    // finishes the turns of games [start, end), whose seeds were already picked
+    // up, and returns the first game it left out
+    int play(GameBatch batch, int start, int end);
+}
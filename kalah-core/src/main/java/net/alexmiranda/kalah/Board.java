@@ -0,0 +1,199 @@
+package net.alexmiranda.kalah;
+
+import java.util.Optional;
+
+abstract sealed class Board permits IntBoard, PackedBoard {
+    final int houses;
+    final int length;
+
+    Board(int houses) {
+        this.houses = houses;
+        this.length = houses * 2 + 2;
+    }
+
+    static Board of(int[] pits) {
+        Preconditions.check(pits != null, "pits");
+        Preconditions.check(pits.length >= 4 && pits.length % 2 == 0, "pits");
+        long total = 0;
+        for (int seeds : pits) {
+            Preconditions.check(seeds >= 0, "seeds");
+            total += seeds;
+        }
+        int houses = pits.length / 2 - 1;
+        if (houses <= PackedBoard.MAX_HOUSES && total <= PackedBoard.MAX_SEEDS) {
+            return new PackedBoard(pits);
+        }
+        return new IntBoard(pits);
+    }
+
+    abstract Board copy();
+
+    abstract void copyFrom(Board other);
+
+    abstract boolean canHold(long seeds);
+
+    abstract void load(int[] pits);
+
+    abstract void fill(int seeds);
+
+    abstract void deferHashes();
+
+    abstract void rehash();
+
+    abstract int seeds(int pit);
+
+    abstract long hash();
+
+    abstract long mirrorHash();
+
+    abstract void copyInto(int[] target);
+
+    abstract int yield(int pit, Player player);
+
+    abstract int capture(int pit, Player player);
+
+    abstract int sowFrom(int pit, Player player, int seeds);
+
+    abstract void unsow(int pit, Player player, int seeds);
+
+    abstract void uncapture(int pit, Player player, int captured);
+
+    abstract void deposit(Player player, int seeds);
+
+    abstract int sweep(Player player);
+
+    abstract void saveRow(Player player, UndoLog log);
+
+    abstract void unsweep(Player player, UndoLog log);
+
+    abstract boolean isRowEmpty(Player player);
+
+    int houses() {
+        return this.houses;
+    }
+
+    int length() {
+        return this.length;
+    }
+
+    boolean sameSeeds(Board other) {
+        if (this.length != other.length || this.hash() != other.hash()) {
+            return false;
+        }
+        for (int pit = 0; pit < this.length; pit++) {
+            if (this.seeds(pit) != other.seeds(pit)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    int next(int pit) {
+        int next = pit + 1;
+        return next == this.length ? 0 : next;
+    }
+
+    int mirror(int pit) {
+        int mirror = pit + this.houses + 1;
+        return mirror >= this.length ? mirror - this.length : mirror;
+    }
+
+    int opposite(int pit) {
+        assert !this.isStore(pit);
+        return this.length - 2 - pit;
+    }
+
+    int house(Player player, int n) {
+        Preconditions.check(n > 0 && n <= this.houses, "n");
+        return switch (player) {
+            case A -> n - 1;
+            case B -> this.houses + n;
+        };
+    }
+
+    int store(Player player) {
+        return switch (player) {
+            case A -> this.houses;
+            case B -> this.length - 1;
+        };
+    }
+
+    Player owner(int pit) {
+        return pit <= this.houses ? Player.A : Player.B;
+    }
+
+    boolean isStore(int pit) {
+        return pit == this.houses || pit == this.length - 1;
+    }
+
+    MoveResult check(int pit, Player player) {
+        if (this.isStore(pit)) {
+            return MoveResult.STORE;
+        } else if (this.seeds(pit) == 0) {
+            return MoveResult.EMPTY_HOUSE;
+        } else if (player != this.owner(pit)) {
+            return MoveResult.NOT_YOUR_HOUSE;
+        }
+        return MoveResult.OK;
+    }
+
+    int select(int pit, Player player) {
+        return switch (this.check(pit, player)) {
+            case STORE -> throw CannotPlayOnStoreException.INSTANCE;
+            case EMPTY_HOUSE -> throw HouseEmptyException.INSTANCE;
+            case NOT_YOUR_HOUSE -> throw OpponentHouseException.INSTANCE;
+            default -> this.yield(pit, player);
+        };
+    }
+
+    void analyze(Player player, MoveAnalysis analysis) {
+        int lap = this.length - 1;
+        int first = this.house(player, 1);
+        int store = this.store(player);
+        for (int n = 1; n <= this.houses; n++) {
+            int pit = first + n - 1;
+            int seeds = this.seeds(pit);
+            if (seeds == 0) {
+                continue;
+            }
+
+            // ranks count pits in sowing order from the first own house, the
+            // opponent store being the one rank (lap) that is never reached
+            int laps = seeds / lap;
+            int left = seeds - laps * lap;
+            int rank = n - 1 + left;
+            if (rank >= lap) {
+                rank -= lap;
+            }
+            int landing = first + rank;
+            if (landing >= this.length) {
+                landing -= this.length;
+            }
+
+            int captured = 0;
+            if (landing != store && this.owner(landing) == player) {
+                int seedsAfter = (landing == pit ? 0 : this.seeds(landing)) + laps + (left > 0 ? 1 : 0);
+                if (seedsAfter == 1) {
+                    int opposite = this.opposite(landing);
+                    int distance = opposite - pit;
+                    if (distance < 0) {
+                        distance += this.length;
+                    }
+                    captured = 1 + this.seeds(opposite) + laps + (distance <= left ? 1 : 0);
+                }
+            }
+            analysis.set(n, landing, landing == store, captured);
+        }
+    }
+
+    Optional<Player> leader() {
+        int a = this.seeds(this.store(Player.A));
+        int b = this.seeds(this.store(Player.B));
+        if (a > b) {
+            return Optional.of(Player.A);
+        } else if (b > a) {
+            return Optional.of(Player.B);
+        }
+        return Optional.empty();
+    }
+}
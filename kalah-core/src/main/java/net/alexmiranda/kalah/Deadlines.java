@@ -0,0 +1,14 @@
+package net.alexmiranda.kalah;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+class Deadlines {
+    private static final Duration LONGEST = Duration.ofDays(1); // keeps clock + limit from overflowing
+
+    // the clock reading limit from now, for searches that poll the same clock
+    static long after(LongSupplier clock, Duration limit) {
+        long nanos = limit.compareTo(LONGEST) > 0 ? LONGEST.toNanos() : limit.toNanos();
+        return clock.getAsLong() + nanos;
+    }
+}
@@ -0,0 +1,164 @@
+package net.alexmiranda.kalah;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.OptionalInt;
+import java.util.concurrent.ForkJoinPool;
+
+// Exact values of every position with up to maxSeeds seeds left in the
+// houses, one byte each in a file that is memory-mapped rather than read,
+// so only the pages actually probed are ever loaded. Probes read the mapping
+// directly and share no state, so any number of threads may probe at once.
+public final class EndgameDatabase {
+    private static final long MAGIC = 0x4b414c4148454442L; // "KALAHEDB"
+    private static final int VERSION = 1;
+    private static final int HEADER = 32;
+
+    private final EndgameIndex index;
+    private final ByteBuffer values;
+
+    private EndgameDatabase(EndgameIndex index, ByteBuffer values) {
+        this.index = index;
+        this.values = values;
+    }
+
+    public static EndgameDatabase open(Path file) throws IOException {
+        Preconditions.check(file != null, "file");
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            var header = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(HEADER, channel.size()));
+            if (header.capacity() < HEADER || header.getLong(0) != MAGIC || header.getInt(8) != VERSION) {
+                throw new IOException(file + " is not an endgame database");
+            }
+            var index = new EndgameIndex(header.getInt(12), header.getInt(16));
+            if (header.getLong(24) != index.size() || channel.size() != HEADER + index.size()) {
+                throw new IOException(file + " is truncated");
+            }
+            // the mapping stays valid once the channel is closed
+            var values = channel.map(FileChannel.MapMode.READ_ONLY, HEADER, index.size());
+            return new EndgameDatabase(index, values);
+        }
+    }
+
+    public static void build(int houses, int maxSeeds, Path file) throws IOException {
+        build(houses, maxSeeds, file, ForkJoinPool.commonPool());
+    }
+
+    public static void build(int houses, int maxSeeds, Path file, ForkJoinPool pool) throws IOException {
+        Preconditions.check(houses > 0, "houses");
+        Preconditions.check(maxSeeds >= 0 && maxSeeds < RetrogradeSolver.BIAS, "maxSeeds");
+        Preconditions.check(file != null, "file");
+        Preconditions.check(pool != null, "pool");
+        var index = new EndgameIndex(houses, maxSeeds);
+        Preconditions.check(index.size() <= Integer.MAX_VALUE - HEADER, "maxSeeds");
+
+        try (var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            var mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER + index.size());
+            new RetrogradeSolver(index, mapped.slice(HEADER, (int) index.size())).solve(pool);
+            // the header goes last, so an interrupted build is never taken for a database
+            mapped.putInt(8, VERSION)
+                .putInt(12, houses)
+                .putInt(16, maxSeeds)
+                .putLong(24, index.size());
+            mapped.putLong(0, MAGIC);
+            mapped.force();
+        }
+    }
+
+    // the final store margin of the player to move under perfect play from
+    // both sides, if the game is over or has few enough seeds left
+    public OptionalInt probe(Game game) {
+        Preconditions.check(game != null, "game");
+        if (game.houses() != this.index.houses()) {
+            return OptionalInt.empty();
+        }
+        var player = game.player();
+        int margin = game.seedsAt(game.storeIndex(player)) - game.seedsAt(game.storeIndex(player.opponent()));
+        if (game.isOver()) {
+            return OptionalInt.of(margin);
+        }
+
+        int houses = this.index.houses();
+        int seeds = 0;
+        for (int pit = 0; pit < houses * 2; pit++) {
+            seeds += this.rowAt(game, player, pit);
+        }
+        if (seeds > this.index.maxSeeds()) {
+            return OptionalInt.empty();
+        }
+        // the rows are ranked straight off the game, as EndgameIndex.indexOf would
+        long index = this.index.first(seeds);
+        int left = seeds;
+        for (int pit = 0; pit < houses * 2 - 1; pit++) {
+            int n = this.rowAt(game, player, pit);
+            index += this.index.skip(pit, left, n);
+            left -= n;
+        }
+        return OptionalInt.of(margin + (this.values.get((int) index) & 0xff) - RetrogradeSolver.BIAS);
+    }
+
+    // a move that reaches the probed margin, when the position can be probed
+    public OptionalInt bestMove(Game game) {
+        var value = this.probe(game);
+        if (value.isEmpty() || game.isOver()) {
+            return OptionalInt.empty();
+        }
+        var player = game.player();
+        for (int n = 1; n <= game.houses(); n++) {
+            int pit = game.houseIndex(player, n);
+            if (game.seedsAt(pit) == 0) {
+                continue;
+            }
+            var next = game.copy();
+            next.play(pit);
+            int margin = this.probe(next).getAsInt();
+            if ((next.player() == player ? margin : -margin) == value.getAsInt()) {
+                return OptionalInt.of(pit);
+            }
+        }
+        throw new IllegalStateException("no move reaches the stored value");
+    }
+
+    public int houses() {
+        return this.index.houses();
+    }
+
+    public int maxSeeds() {
+        return this.index.maxSeeds();
+    }
+
+    public long size() {
+        return this.index.size();
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            System.err.println("usage: EndgameDatabase <houses> <max seeds> <file>");
+            System.exit(2);
+        }
+        int houses = Integer.parseInt(args[0]);
+        int maxSeeds = Integer.parseInt(args[1]);
+        var file = Path.of(args[2]);
+
+        long started = System.nanoTime();
+        build(houses, maxSeeds, file);
+        double seconds = (System.nanoTime() - started) / 1e9;
+        report(System.out, open(file), seconds);
+    }
+
+    static void report(PrintStream out, EndgameDatabase database, double seconds) {
+        out.printf("%d positions with %d houses and up to %d seeds in %.2fs (%.0f positions/s)%n",
+            database.size(), database.houses(), database.maxSeeds(), seconds, database.size() / seconds);
+    }
+
+    // the seeds in pit i of the rows that EndgameIndex ranks, mover first
+    private int rowAt(Game game, Player mover, int i) {
+        int houses = this.index.houses();
+        var owner = i < houses ? mover : mover.opponent();
+        return game.seedsAt(game.houseIndex(owner, i % houses + 1));
+    }
+}
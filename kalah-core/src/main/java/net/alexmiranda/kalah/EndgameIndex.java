@@ -0,0 +1,89 @@
+package net.alexmiranda.kalah;
+
+// Perfect index of the house contents with up to maxSeeds seeds in play:
+// positions are grouped by the number of seeds, and within a group ranked
+// lexicographically as compositions of that number into 2 * houses parts.
+// Rows are ordered mover first, so the player to move is not part of it.
+final class EndgameIndex {
+    private final int houses;
+    private final int pits;
+    private final int maxSeeds;
+    private final long[][] compositions; // [seeds][parts]
+    private final long[] offsets; // first index of each number of seeds, then the size
+
+    EndgameIndex(int houses, int maxSeeds) {
+        Preconditions.check(houses > 0, "houses");
+        Preconditions.check(maxSeeds >= 0, "maxSeeds");
+        this.houses = houses;
+        this.pits = houses * 2;
+        this.maxSeeds = maxSeeds;
+        this.compositions = new long[maxSeeds + 1][this.pits + 2];
+        for (int seeds = 0; seeds <= maxSeeds; seeds++) {
+            this.compositions[seeds][0] = seeds == 0 ? 1 : 0;
+            for (int parts = 1; parts < this.pits + 2; parts++) {
+                long count = this.compositions[seeds][parts - 1]
+                    + (seeds > 0 ? this.compositions[seeds - 1][parts] : 0);
+                this.compositions[seeds][parts] = Math.min(count, Long.MAX_VALUE / 2);
+            }
+        }
+        this.offsets = new long[maxSeeds + 2];
+        for (int seeds = 0; seeds <= maxSeeds; seeds++) {
+            this.offsets[seeds + 1] = Math.min(this.offsets[seeds] + this.compositions[seeds][this.pits], Long.MAX_VALUE / 2);
+        }
+    }
+
+    int houses() {
+        return this.houses;
+    }
+
+    int maxSeeds() {
+        return this.maxSeeds;
+    }
+
+    long size() {
+        return this.offsets[this.maxSeeds + 1];
+    }
+
+    long first(int seeds) {
+        return this.offsets[seeds];
+    }
+
+    long end(int seeds) {
+        return this.offsets[seeds + 1];
+    }
+
+    // rows holds the mover's houses and then the opponent's, seeds the sum
+    long indexOf(int[] rows, int seeds) {
+        long index = this.offsets[seeds];
+        int left = seeds;
+        for (int i = 0; i < this.pits - 1; i++) {
+            index += this.skip(i, left, rows[i]);
+            left -= rows[i];
+        }
+        return index;
+    }
+
+    // the compositions of left seeds into pits i onwards whose pit i holds
+    // fewer than n, which indexOf skips to reach pit i holding n
+    long skip(int i, int left, int n) {
+        int parts = this.pits - i;
+        return this.compositions[left][parts] - this.compositions[left - n][parts];
+    }
+
+    // the inverse of indexOf, for an index within the group of seeds
+    void positionAt(long index, int seeds, int[] rows) {
+        long rank = index - this.offsets[seeds];
+        int left = seeds;
+        for (int i = 0; i < this.pits - 1; i++) {
+            int parts = this.pits - i - 1;
+            int n = 0;
+            while (rank >= this.compositions[left - n][parts]) {
+                rank -= this.compositions[left - n][parts];
+                n++;
+            }
+            rows[i] = n;
+            left -= n;
+        }
+        rows[this.pits - 1] = left;
+    }
+}
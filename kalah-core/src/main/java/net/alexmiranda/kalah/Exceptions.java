@@ -0,0 +1,59 @@
+package net.alexmiranda.kalah;
+
+abstract class StacklessException extends RuntimeException {
+    StacklessException() {
+        this(null);
+    }
+
+    StacklessException(String message) {
+        super(message, null, false, false);
+    }
+}
+
+class CannotPlayOnStoreException extends StacklessException {
+    static final CannotPlayOnStoreException INSTANCE = new CannotPlayOnStoreException();
+
+    private CannotPlayOnStoreException() {}
+}
+
+class NoSuchPositionException extends StacklessException {
+    NoSuchPositionException(String position) {
+        super(position);
+    }
+}
+
+class HouseEmptyException extends StacklessException {
+    static final HouseEmptyException INSTANCE = new HouseEmptyException();
+
+    private HouseEmptyException() {}
+}
+
+class OpponentHouseException extends StacklessException {
+    static final OpponentHouseException INSTANCE = new OpponentHouseException();
+
+    private OpponentHouseException() {}
+}
+
+class HouseCaptureException extends StacklessException {
+    static final HouseCaptureException INSTANCE = new HouseCaptureException();
+
+    private HouseCaptureException() {}
+}
+
+class NegativeSeedsException extends StacklessException {
+    static final NegativeSeedsException INSTANCE = new NegativeSeedsException();
+
+    private NegativeSeedsException() {}
+}
+
+class GameOverException extends StacklessException {
+    static final GameOverException INSTANCE = new GameOverException();
+
+    private GameOverException() {}
+}
+
+class NothingToUndoException extends StacklessException {
+    static final NothingToUndoException INSTANCE = new NothingToUndoException();
+
+    private NothingToUndoException() {}
+}
@@ -4,8 +4,8 @@ import java.util.Optional;
 
 class Finished implements GameState {
     @Override
-    public void beginTurn(Game game, Pit pit) {
-        throw new GameOverException();
+    public void beginTurn(Game game, int pit) {
+        throw GameOverException.INSTANCE;
     }
 
     @Override
@@ -0,0 +1,418 @@
+package net.alexmiranda.kalah;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class Game extends AbstractGame {
+    private static final GameState[] STATES = {
+        GameState.WAITING, GameState.SOWING_OWN_ROW, GameState.SOWING_OPPONENT_ROW, GameState.FINISHED
+    };
+    private static final int PLAYER_B = 1;
+    private static final int WAS_OVER = 1 << 3;
+    private static final int TERMINATED = 1 << 4;
+
+    private final int houses;
+    private final int seeds;
+
+    private Board board;
+    private Topology topology;
+    private Map<String, Integer> view;
+    private UndoLog undoLog;
+    private int capturedPit = -1;
+    private int capturedSeeds;
+    private boolean terminated;
+
+    public Game(int houses, int seeds) {
+        Preconditions.check(houses > 0, "houses");
+        Preconditions.check(seeds > 0, "seeds");
+        Preconditions.check(houses > 1 || seeds > 1, "seeds");
+        this.houses = houses;
+        this.seeds = seeds;
+        var board = createBoardPrototype(houses, seeds);
+        init(board, false);
+    }
+
+    Game(int[] board, GameState state, Player player) {
+        Preconditions.check(board != null, "board");
+        Preconditions.check(state != null, "state");
+        Preconditions.check(player != null, "player");
+        int houses = checkBoard(board);
+
+        this.houses = houses;
+        this.seeds = sum(board) / (2 * this.houses); // per house, as in new Game(houses, seeds)
+        this.state = state;
+        this.player = player;
+        init(board, true);
+    }
+
+    private Game(Game other) {
+        this.houses = other.houses;
+        this.seeds = other.seeds;
+        this.board = other.board.copy();
+        this.topology = other.topology;
+        this.view = new PitsView<>(this.topology, pit -> this.board.seeds(pit));
+        this.state = other.state;
+        this.player = other.player;
+        this.isOver = other.isOver;
+    }
+
+    public int playAll(int[] moves) {
+        Preconditions.check(moves != null, "moves");
+        this.board.deferHashes();
+        try {
+            for (int i = 0; i < moves.length; i++) {
+                if (this.tryPlay(moves[i]) != MoveResult.OK) {
+                    return i;
+                }
+            }
+            return -1;
+        } finally {
+            this.board.rehash();
+        }
+    }
+
+    public int playAll(List<String> moves) {
+        Preconditions.check(moves != null, "moves");
+        var pits = new int[moves.size()];
+        int i = 0;
+        for (String position : moves) {
+            pits[i++] = this.topology.indexOf(position);
+        }
+        return this.playAll(pits);
+    }
+
+    public MoveAnalysis analyzeMoves() {
+        return this.analyzeMoves(new MoveAnalysis(this.houses));
+    }
+
+    public MoveAnalysis analyzeMoves(MoveAnalysis analysis) {
+        Preconditions.check(analysis != null && analysis.houses() == this.houses, "analysis");
+        analysis.clear(this.player);
+        if (this.state != GameState.FINISHED) {
+            this.board.analyze(this.player, analysis);
+        }
+        return analysis;
+    }
+
+    public void reset() {
+        if (!this.board.canHold(2L * this.houses * this.seeds)) {
+            this.board = Board.of(createBoardPrototype(this.houses, this.seeds));
+        }
+        this.board.fill(this.seeds);
+        this.restart(Player.A);
+    }
+
+    public void reset(int[] board, Player player) {
+        Preconditions.check(board != null, "board");
+        Preconditions.check(player != null, "player");
+        Preconditions.check(checkBoard(board) == this.houses, "board");
+        Preconditions.check(sum(board) == 2L * this.houses * this.seeds, "board"); // keeps seeds() true
+        if (this.board.canHold(sum(board))) {
+            this.board.load(board);
+        } else {
+            this.board = Board.of(board);
+        }
+        this.restart(player);
+        if (this.checkGameOver(true)) {
+            this.terminate();
+            this.state = GameState.FINISHED;
+        }
+        if (this.undoLog != null) {
+            this.undoLog.clear();
+        }
+    }
+
+    public void recordUndo(boolean enabled) {
+        this.undoLog = enabled ? new UndoLog() : null;
+    }
+
+    public boolean canUndo() {
+        return this.undoLog != null && !this.undoLog.isEmpty();
+    }
+
+    public void undo() {
+        if (!this.canUndo()) {
+            throw NothingToUndoException.INSTANCE;
+        }
+
+        int flags = this.undoLog.pop();
+        int capturedSeeds = this.undoLog.pop();
+        int capturedPit = this.undoLog.pop();
+        int seeds = this.undoLog.pop();
+        int pit = this.undoLog.pop();
+        var player = (flags & PLAYER_B) != 0 ? Player.B : Player.A;
+
+        if ((flags & TERMINATED) != 0) {
+            this.board.unsweep(Player.B, this.undoLog);
+            this.board.unsweep(Player.A, this.undoLog);
+        }
+        if (capturedPit >= 0) {
+            this.board.uncapture(capturedPit, player, capturedSeeds);
+        }
+        this.board.unsow(pit, player, seeds);
+
+        this.player = player;
+        this.state = STATES[(flags >> 1) & 3];
+        this.isOver = (flags & WAS_OVER) != 0;
+    }
+
+    public int seedsAt(int pit) {
+        this.checkPosition(pit);
+        return this.board.seeds(pit);
+    }
+
+    public int houseIndex(Player player, int n) {
+        Preconditions.check(player != null, "player");
+        return this.board.house(player, n);
+    }
+
+    public int storeIndex(Player player) {
+        Preconditions.check(player != null, "player");
+        return this.board.store(player);
+    }
+
+    public Optional<Player> winner() {
+        return this.state.winner(this);
+    }
+
+    public Map<String, Integer> pits() {
+        return this.view;
+    }
+
+    public void forEachPit(IntBinaryConsumer consumer) {
+        Preconditions.check(consumer != null, "consumer");
+        for (int pit = 0; pit < this.board.length(); pit++) {
+            consumer.accept(pit, this.board.seeds(pit));
+        }
+    }
+
+    public void copyInto(int[] pits) {
+        Preconditions.check(pits != null && pits.length >= this.board.length(), "pits");
+        this.board.copyInto(pits);
+    }
+
+    public long positionHash() {
+        return this.board.hash() ^ (this.player == Player.B ? Zobrist.PLAYER_B : 0);
+    }
+
+    public long canonicalHash() {
+        long mirror = this.board.mirrorHash() ^ (this.player == Player.A ? Zobrist.PLAYER_B : 0);
+        return Math.min(this.positionHash(), mirror);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        return obj instanceof Game other
+            && this.player == other.player
+            && this.state == other.state
+            && this.board.sameSeeds(other.board);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(this.positionHash()) * 31 + indexOf(this.state);
+    }
+
+    public GameSnapshot snapshot() {
+        return new GameSnapshot(this.copy());
+    }
+
+    public int houses() {
+        return this.houses;
+    }
+
+    public int seeds() {
+        return this.seeds;
+    }
+
+    Game copy() {
+        return new Game(this);
+    }
+
+    void copyFrom(Game other) {
+        assert this.houses == other.houses;
+        if (this.board.getClass() == other.board.getClass()) {
+            this.board.copyFrom(other.board);
+        } else {
+            this.board = other.board.copy();
+        }
+        this.state = other.state;
+        this.player = other.player;
+        this.isOver = other.isOver;
+        if (this.undoLog != null) {
+            this.undoLog.clear();
+        }
+    }
+
+    int legalMoves(int[] moves) {
+        if (this.state != GameState.WAITING) {
+            return 0;
+        }
+        int count = 0;
+        int first = this.board.house(this.player, 1);
+        for (int pit = first; pit < first + this.houses; pit++) {
+            if (this.board.seeds(pit) > 0) {
+                moves[count++] = pit;
+            }
+        }
+        return count;
+    }
+
+    boolean captured() {
+        return this.capturedPit >= 0;
+    }
+
+    void accept(int pit, int seeds) {
+        int last = this.board.sowFrom(pit, this.player, seeds);
+        if (this.board.owner(last) != this.player) {
+            this.state = GameState.SOWING_OPPONENT_ROW;
+        }
+        this.state.endTurn(this, last);
+    }
+
+    int select(int pit) {
+        return this.board.select(pit, this.player);
+    }
+
+    @Override
+    boolean isStore(int pit) {
+        return this.board.isStore(pit);
+    }
+
+    @Override
+    void captureIntoStore(int pit) {
+        this.capturedPit = pit;
+        if (this.undoLog != null) {
+            this.capturedSeeds = this.board.seeds(this.board.opposite(pit));
+        }
+        int seeds = this.board.capture(pit, this.player);
+        this.board.deposit(this.player, seeds);
+    }
+
+    @Override
+    boolean holdsOneSeed(int pit) {
+        return this.board.seeds(pit) == 1;
+    }
+
+    @Override
+    boolean isRowEmpty(Player player) {
+        return this.board.isRowEmpty(player);
+    }
+
+    Optional<Player> leadingPlayer() {
+        return this.board.leader();
+    }
+
+    @Override
+    void terminate() {
+        if (this.undoLog != null) {
+            this.board.saveRow(Player.A, this.undoLog);
+            this.board.saveRow(Player.B, this.undoLog);
+            this.terminated = true;
+        }
+        for (Player player : Player.values()) {
+            this.board.sweep(player);
+        }
+    }
+
+    private void restart(Player player) {
+        this.state = GameState.WAITING;
+        this.player = player;
+        this.isOver = false;
+        this.capturedPit = -1;
+        if (this.undoLog != null) {
+            this.undoLog.clear();
+        }
+    }
+
+    @Override
+    int indexOf(String position) {
+        return this.topology.indexOf(position);
+    }
+
+    @Override
+    int length() {
+        return this.board.length();
+    }
+
+    @Override
+    MoveResult check(int pit) {
+        return this.board.check(pit, this.player);
+    }
+
+    @Override
+    void apply(int pit) {
+        this.capturedPit = -1;
+        if (this.undoLog == null) {
+            this.state.beginTurn(this, pit);
+            return;
+        }
+
+        int flags = (this.player == Player.B ? PLAYER_B : 0)
+            | indexOf(this.state) << 1
+            | (this.isOver ? WAS_OVER : 0);
+        int seeds = this.board.seeds(pit);
+        this.capturedSeeds = 0;
+        this.terminated = false;
+
+        this.state.beginTurn(this, pit);
+
+        this.undoLog.push(pit);
+        this.undoLog.push(seeds);
+        this.undoLog.push(this.capturedPit);
+        this.undoLog.push(this.capturedSeeds);
+        this.undoLog.push(flags | (this.terminated ? TERMINATED : 0));
+    }
+
+    private void init(int[] board, boolean checkState) {
+        this.board = Board.of(board);
+        this.topology = Topology.of(this.houses);
+        this.view = new PitsView<>(this.topology, pit -> this.board.seeds(pit));
+
+        if (checkState) {
+            checkGameOver(true);
+        }
+    }
+
+    private static int indexOf(GameState state) {
+        for (int i = 0; i < STATES.length; i++) {
+            if (STATES[i] == state) {
+                return i;
+            }
+        }
+        throw new AssertionError("impossible state");
+    }
+
+    private static int[] createBoardPrototype(int h, int s) {
+        int[] board = new int[h * 2 + 2];
+        for (int i = 0; i < h; i++) {
+            board[i] = s;
+            board[h + i + 1] = s;
+        }
+        return board;
+    }
+
+    private static int checkBoard(int[] board) {
+        Preconditions.check(board.length >= 4 && board.length % 2 == 0, "board");
+        int totalSeeds = sum(board);
+        int houses = board.length / 2 - 1;
+        Preconditions.check(totalSeeds > 0, "board");
+        Preconditions.check(totalSeeds % (houses * 2) == 0, "board");
+        return houses;
+    }
+
+    private static int sum(int[] board) {
+        int sum = 0;
+        for (int n : board) {
+            if (n < 0) {
+                throw NegativeSeedsException.INSTANCE;
+            }
+            sum += n;
+        }
+        return sum;
+    }
+}
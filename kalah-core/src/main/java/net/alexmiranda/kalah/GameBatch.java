@@ -0,0 +1,227 @@
+package net.alexmiranda.kalah;
+
+import java.lang.reflect.Constructor;
+import java.util.Optional;
+
+public final class GameBatch {
+    // VectorBatchEngine lives in kalah-vector, so that only users who opt in
+    // need the incubator module
+    private static final Constructor<? extends BatchEngine> VECTOR_ENGINE = vectorEngine();
+
+    final int houses;
+    final int length;
+    final int size;
+    final int[] pits; // column-major: pit j of game g is pits[j * size + g]
+    final int[] players;
+    final int[] finished;
+
+    // this round's moves, already picked up: a game with from[g] = -1 sits out
+    final int[] from;
+    final int[] laps;
+    final int[] left;
+    final int[] windows; // one bit per pit sown by the partial lap, while a lap fits in an int
+
+    private final int seeds;
+    private final BatchEngine engine;
+
+    public GameBatch(int houses, int seeds, int games) {
+        this(houses, seeds, games, null);
+    }
+
+    GameBatch(int houses, int seeds, int games, BatchEngine engine) {
+        Preconditions.check(houses > 0, "houses");
+        Preconditions.check(seeds > 0, "seeds");
+        Preconditions.check(houses > 1 || seeds > 1, "seeds");
+        Preconditions.check(games > 0, "games");
+        Preconditions.check((long) houses * 2 * seeds <= Integer.MAX_VALUE, "seeds");
+        Preconditions.check((long) (houses * 2 + 2) * games <= Integer.MAX_VALUE, "games");
+        this.houses = houses;
+        this.seeds = seeds;
+        this.length = houses * 2 + 2;
+        this.size = games;
+        this.pits = new int[this.length * games];
+        this.players = new int[games];
+        this.finished = new int[games];
+        this.from = new int[games];
+        this.laps = new int[games];
+        this.left = new int[games];
+        this.windows = this.length <= Integer.SIZE ? new int[games] : null;
+        this.engine = engine != null ? engine : this.defaultEngine();
+        this.reset();
+    }
+
+    public static boolean isVectorized() {
+        return VECTOR_ENGINE != null;
+    }
+
+    public int play(int[] pits, MoveResult[] results) {
+        Preconditions.check(pits != null && pits.length >= this.size, "pits");
+        Preconditions.check(results != null && results.length >= this.size, "results");
+        int lap = this.length - 1;
+        int played = 0;
+        for (int g = 0; g < this.size; g++) {
+            int pit = pits[g];
+            var result = this.check(g, pit);
+            results[g] = result;
+            int seeds = 0;
+            if (result == MoveResult.OK) {
+                seeds = this.pits[pit * this.size + g];
+                this.pits[pit * this.size + g] = 0;
+                played++;
+            } else {
+                pit = -1;
+            }
+            int laps = seeds < lap ? 0 : seeds / lap;
+            this.from[g] = pit;
+            this.laps[g] = laps;
+            this.left[g] = seeds - laps * lap;
+            if (this.windows != null) {
+                this.windows[g] = pit < 0 ? 0 : this.window(g, pit, seeds - laps * lap);
+            }
+        }
+        if (played > 0) {
+            int next = this.engine.play(this, 0, this.size);
+            ScalarBatchEngine.INSTANCE.play(this, next, this.size);
+        }
+        return played;
+    }
+
+    public void reset() {
+        for (int g = 0; g < this.size; g++) {
+            this.reset(g);
+        }
+    }
+
+    public void reset(int game) {
+        this.checkGame(game);
+        for (int pit = 0; pit < this.length; pit++) {
+            boolean store = pit == this.houses || pit == this.length - 1;
+            this.pits[pit * this.size + game] = store ? 0 : this.seeds;
+        }
+        this.players[game] = 0;
+        this.finished[game] = 0;
+    }
+
+    public int seedsAt(int game, int pit) {
+        this.checkGame(game);
+        if (pit < 0 || pit >= this.length) {
+            throw new NoSuchPositionException(String.valueOf(pit));
+        }
+        return this.pits[pit * this.size + game];
+    }
+
+    public void copyInto(int game, int[] pits) {
+        this.checkGame(game);
+        Preconditions.check(pits != null && pits.length >= this.length, "pits");
+        for (int pit = 0; pit < this.length; pit++) {
+            pits[pit] = this.pits[pit * this.size + game];
+        }
+    }
+
+    public int houseIndex(int game, int n) {
+        Preconditions.check(n > 0 && n <= this.houses, "n");
+        return this.player(game) == Player.A ? n - 1 : this.houses + n;
+    }
+
+    public Player player(int game) {
+        this.checkGame(game);
+        return this.players[game] == 0 ? Player.A : Player.B;
+    }
+
+    public boolean isOver(int game) {
+        this.checkGame(game);
+        return this.finished[game] != 0;
+    }
+
+    public Optional<Player> winner(int game) {
+        if (!this.isOver(game)) {
+            return Optional.empty();
+        }
+        int a = this.pits[this.houses * this.size + game];
+        int b = this.pits[(this.length - 1) * this.size + game];
+        if (a > b) {
+            return Optional.of(Player.A);
+        } else if (b > a) {
+            return Optional.of(Player.B);
+        }
+        return Optional.empty();
+    }
+
+    public Game toGame(int game) {
+        var board = new int[this.length];
+        this.copyInto(game, board);
+        var state = this.isOver(game) ? GameState.FINISHED : GameState.WAITING;
+        return new Game(board, state, this.player(game));
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public int houses() {
+        return this.houses;
+    }
+
+    public int seeds() {
+        return this.seeds;
+    }
+
+    private MoveResult check(int game, int pit) {
+        if (pit < 0 || pit >= this.length) {
+            return MoveResult.UNKNOWN;
+        } else if (this.finished[game] != 0) {
+            return MoveResult.GAME_OVER;
+        } else if (pit == this.houses || pit == this.length - 1) {
+            return MoveResult.STORE;
+        } else if (this.pits[pit * this.size + game] == 0) {
+            return MoveResult.EMPTY_HOUSE;
+        } else if ((pit < this.houses ? 0 : 1) != this.players[game]) {
+            return MoveResult.NOT_YOUR_HOUSE;
+        }
+        return MoveResult.OK;
+    }
+
+    private int window(int g, int pit, int left) {
+        // ranks count pits in sowing order from the mover's first house; the
+        // partial lap covers ranks origin + 1 .. origin + left, wrapping within a lap
+        int lap = this.length - 1;
+        int first = this.players[g] == 0 ? 0 : this.houses + 1;
+        long ranks = ((1L << left) - 1) << (pit - first + 1);
+        ranks = (ranks | ranks >>> lap) & ((1L << lap) - 1);
+        long pits = ranks << first | ranks >>> (this.length - first);
+        return (int) (pits & ((1L << this.length) - 1));
+    }
+
+    private void checkGame(int game) {
+        Preconditions.check(game >= 0 && game < this.size, "game");
+    }
+
+    // the vector engine works on the partial lap windows, so it only takes
+    // boards that have them; each batch gets its own for the scratch lanes
+    private BatchEngine defaultEngine() {
+        if (VECTOR_ENGINE != null && this.windows != null) {
+            try {
+                return VECTOR_ENGINE.newInstance();
+            } catch (ReflectiveOperationException e) {
+                // fall back to the scalar engine
+            }
+        }
+        return ScalarBatchEngine.INSTANCE;
+    }
+
+    private static Constructor<? extends BatchEngine> vectorEngine() {
+        // the incubator module must be added explicitly, so fall back to the
+        // scalar engine whenever it was left out of the boot layer
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return null;
+        }
+        try {
+            var engine = Class.forName("net.alexmiranda.kalah.VectorBatchEngine").asSubclass(BatchEngine.class);
+            var constructor = engine.getDeclaredConstructor();
+            constructor.newInstance();
+            return constructor;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package net.alexmiranda.kalah;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+// Recycles games of one configuration. Callers own their pools, so a pool
+// and the games it holds go away with the code that uses it.
+public final class GamePool {
+    static final int DEFAULT_CAPACITY = 16;
+
+    private final int houses;
+    private final int seeds;
+    private final int capacity;
+    private final ThreadLocal<Idle> idle; // per thread, so no locking
+
+    public GamePool(int houses, int seeds) {
+        this(houses, seeds, DEFAULT_CAPACITY);
+    }
+
+    public GamePool(int houses, int seeds, int capacity) {
+        Preconditions.check(houses > 0, "houses");
+        Preconditions.check(seeds > 0, "seeds");
+        Preconditions.check(houses > 1 || seeds > 1, "seeds");
+        Preconditions.check(capacity >= 0, "capacity");
+        this.houses = houses;
+        this.seeds = seeds;
+        this.capacity = capacity;
+        this.idle = ThreadLocal.withInitial(() -> new Idle(capacity));
+    }
+
+    public Game acquire() {
+        var game = this.idle.get().poll();
+        if (game == null) {
+            return new Game(this.houses, this.seeds);
+        }
+        game.recordUndo(false);
+        game.reset();
+        return game;
+    }
+
+    public void release(Game game) {
+        Preconditions.check(game != null, "game");
+        Preconditions.check(game.houses() == this.houses && game.seeds() == this.seeds, "game");
+        var idle = this.idle.get();
+        Preconditions.check(!idle.contains(game), "game"); // released twice
+        if (idle.size() < this.capacity) {
+            idle.push(game);
+        }
+    }
+
+    public int houses() {
+        return this.houses;
+    }
+
+    public int seeds() {
+        return this.seeds;
+    }
+
+    public int capacity() {
+        return this.capacity;
+    }
+
+    // games compare by position, so membership goes by identity
+    private static final class Idle {
+        private final ArrayDeque<Game> games;
+        private final Set<Game> members;
+
+        Idle(int capacity) {
+            this.games = new ArrayDeque<>(capacity);
+            this.members = Collections.newSetFromMap(new IdentityHashMap<>(capacity));
+        }
+
+        Game poll() {
+            var game = this.games.pollFirst();
+            if (game != null) {
+                this.members.remove(game);
+            }
+            return game;
+        }
+
+        void push(Game game) {
+            this.games.addFirst(game);
+            this.members.add(game);
+        }
+
+        boolean contains(Game game) {
+            return this.members.contains(game);
+        }
+
+        int size() {
+            return this.games.size();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package net.alexmiranda.kalah;
+
+import java.util.Map;
+import java.util.Optional;
+
+public final class GameSnapshot {
+    private final Game game; // never mutated once wrapped
+
+    GameSnapshot(Game game) {
+        this.game = game;
+    }
+
+    public GameSnapshot play(String position) {
+        var next = this.game.copy();
+        next.play(position);
+        return new GameSnapshot(next);
+    }
+
+    public GameSnapshot play(int pit) {
+        var next = this.game.copy();
+        next.play(pit);
+        return new GameSnapshot(next);
+    }
+
+    public MoveAnalysis analyzeMoves() {
+        return this.game.analyzeMoves();
+    }
+
+    public Game toGame() {
+        return this.game.copy();
+    }
+
+    public boolean isOver() {
+        return this.game.isOver();
+    }
+
+    public Optional<Player> winner() {
+        return this.game.winner();
+    }
+
+    public Map<String, Integer> pits() {
+        return this.game.pits();
+    }
+
+    public int seedsAt(int pit) {
+        return this.game.seedsAt(pit);
+    }
+
+    public void copyInto(int[] pits) {
+        this.game.copyInto(pits);
+    }
+
+    public int houseIndex(Player player, int n) {
+        return this.game.houseIndex(player, n);
+    }
+
+    public int storeIndex(Player player) {
+        return this.game.storeIndex(player);
+    }
+
+    public long positionHash() {
+        return this.game.positionHash();
+    }
+
+    public long canonicalHash() {
+        return this.game.canonicalHash();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof GameSnapshot other && this.game.equals(other.game);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.game.hashCode();
+    }
+
+    public int houses() {
+        return this.game.houses();
+    }
+
+    public int seeds() {
+        return this.game.seeds();
+    }
+
+    public Player player() {
+        return this.game.player();
+    }
+}
@@ -8,28 +8,19 @@ interface GameState {
     static GameState SOWING_OPPONENT_ROW = new SowingOpponentRow();
     static GameState FINISHED = new Finished();
 
-    default void beginTurn(Game game, Pit pit) {
-        unsupportedOperation();
+    default void beginTurn(Game game, int pit) {
+        unsupportedOperation("beginTurn");
     }
 
-    default int visit(Game game, Pit pit, int seedsLeft) {
-        unsupportedOperation();
-        return 0;
-    }
-
-    default void endTurn(Game game, Pit pit) {
-        unsupportedOperation();
+    default void endTurn(Turn game, int pit) {
+        unsupportedOperation("endTurn");
     }
 
     default Optional<Player> winner(Game game) {
         return Optional.empty();
     }
 
-    private void unsupportedOperation() {
-        StackWalker walker = StackWalker.getInstance();
-        String operation = walker.walk(frames -> frames.skip(1).findFirst())
-            .map(StackWalker.StackFrame::getMethodName)
-            .get();
+    private void unsupportedOperation(String operation) {
         String state = this.getClass().getSimpleName();
         String msg = String.format("Unsupported operation '%s' on state '%s'", operation, state);
         throw new UnsupportedOperationException(msg);
@@ -0,0 +1,6 @@
+package net.alexmiranda.kalah;
+
+@FunctionalInterface
+public interface IntBinaryConsumer {
+    void accept(int left, int right);
+}
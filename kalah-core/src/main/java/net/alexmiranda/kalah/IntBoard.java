@@ -0,0 +1,269 @@
+package net.alexmiranda.kalah;
+
+import java.util.Arrays;
+
+final class IntBoard extends Board implements Sowing {
+    private final int[] pits;
+    private final int[] rows = new int[2]; // seeds in each player's houses
+    private long hash;
+    private long mirrorHash; // hash of the same pits with rows A and B swapped
+    private boolean hashing = true;
+
+    IntBoard(int[] pits) {
+        super(pits.length / 2 - 1);
+        this.pits = pits.clone();
+        this.recount();
+    }
+
+    private IntBoard(IntBoard other) {
+        super(other.houses);
+        this.pits = other.pits.clone();
+        this.rows[0] = other.rows[0];
+        this.rows[1] = other.rows[1];
+        this.hash = other.hash;
+        this.mirrorHash = other.mirrorHash;
+    }
+
+    @Override
+    IntBoard copy() {
+        return new IntBoard(this);
+    }
+
+    @Override
+    void copyFrom(Board board) {
+        var other = (IntBoard) board;
+        assert this.pits.length == other.pits.length;
+        System.arraycopy(other.pits, 0, this.pits, 0, this.pits.length);
+        this.rows[0] = other.rows[0];
+        this.rows[1] = other.rows[1];
+        this.hash = other.hash;
+        this.mirrorHash = other.mirrorHash;
+    }
+
+    @Override
+    boolean canHold(long seeds) {
+        return seeds <= Integer.MAX_VALUE;
+    }
+
+    @Override
+    void load(int[] pits) {
+        Preconditions.check(pits != null && pits.length == this.pits.length, "pits");
+        for (int seeds : pits) {
+            Preconditions.check(seeds >= 0, "seeds");
+        }
+        System.arraycopy(pits, 0, this.pits, 0, this.pits.length);
+        this.recount();
+    }
+
+    @Override
+    void fill(int seeds) {
+        Preconditions.check(seeds >= 0, "seeds");
+        Arrays.fill(this.pits, seeds);
+        this.pits[this.store(Player.A)] = 0;
+        this.pits[this.store(Player.B)] = 0;
+        this.recount();
+    }
+
+    @Override
+    void deferHashes() {
+        this.hashing = false;
+    }
+
+    @Override
+    void rehash() {
+        this.hashing = true;
+        this.recount();
+    }
+
+    @Override
+    int seeds(int pit) {
+        return this.pits[pit];
+    }
+
+    @Override
+    long hash() {
+        return this.hash;
+    }
+
+    @Override
+    long mirrorHash() {
+        return this.mirrorHash;
+    }
+
+    @Override
+    boolean sameSeeds(Board board) {
+        if (board instanceof IntBoard other) {
+            return this.hash == other.hash && Arrays.equals(this.pits, other.pits);
+        }
+        return super.sameSeeds(board);
+    }
+
+    @Override
+    void copyInto(int[] target) {
+        System.arraycopy(this.pits, 0, target, 0, this.pits.length);
+    }
+
+    @Override
+    int yield(int pit, Player player) {
+        assert !this.isStore(pit);
+        if (player != this.owner(pit)) {
+            throw OpponentHouseException.INSTANCE;
+        }
+        int existingSeeds = this.pits[pit];
+        this.put(pit, 0);
+        this.rows[player.ordinal()] -= existingSeeds;
+        return existingSeeds;
+    }
+
+    @Override
+    int capture(int pit, Player player) {
+        assert !this.isStore(pit);
+        if (player != this.owner(pit)) {
+            throw HouseCaptureException.INSTANCE;
+        }
+        int opposite = this.opposite(pit);
+        int existingSeeds = this.pits[pit] + this.pits[opposite];
+        this.rows[player.ordinal()] -= this.pits[pit];
+        this.rows[player.opponent().ordinal()] -= this.pits[opposite];
+        this.put(pit, 0);
+        this.put(opposite, 0);
+        return existingSeeds;
+    }
+
+    @Override
+    int sowFrom(int pit, Player player, int seeds) {
+        assert !this.isStore(pit) && player == this.owner(pit);
+        int lap = this.pits.length - 1;
+        int laps = seeds / lap;
+        if (laps > 0) {
+            this.addLaps(player, laps);
+        }
+        return Sowing.sowPartialLap(this, this.houses, pit, player, seeds - laps * lap);
+    }
+
+    @Override
+    public void sowRun(int from, int to) {
+        for (int i = from; i < to; i++) {
+            this.put(i, this.pits[i] + 1);
+        }
+        int houses = this.isStore(to - 1) ? to - from - 1 : to - from;
+        this.rows[this.owner(from).ordinal()] += houses;
+    }
+
+    @Override
+    void unsow(int pit, Player player, int seeds) {
+        int skipped = this.store(player.opponent());
+        int lap = this.pits.length - 1;
+        this.addLaps(player, -(seeds / lap));
+
+        int next = pit;
+        for (int i = seeds % lap; i > 0; i--) {
+            next = this.next(next);
+            if (next == skipped) {
+                next = this.next(next);
+            }
+            this.put(next, this.pits[next] - 1);
+            if (!this.isStore(next)) {
+                this.rows[this.owner(next).ordinal()]--;
+            }
+        }
+
+        this.put(pit, this.pits[pit] + seeds);
+        this.rows[this.owner(pit).ordinal()] += seeds;
+    }
+
+    @Override
+    void uncapture(int pit, Player player, int captured) {
+        int opposite = this.opposite(pit);
+        int store = this.store(player);
+        this.put(pit, this.pits[pit] + 1);
+        this.put(opposite, this.pits[opposite] + captured);
+        this.put(store, this.pits[store] - captured - 1);
+        this.rows[player.ordinal()] += 1;
+        this.rows[player.opponent().ordinal()] += captured;
+    }
+
+    @Override
+    void deposit(Player player, int seeds) {
+        Preconditions.check(seeds >= 0, "seeds");
+        int store = this.store(player);
+        this.put(store, this.pits[store] + seeds);
+    }
+
+    @Override
+    int sweep(Player player) {
+        int first = this.house(player, 1);
+        int seeds = this.rows[player.ordinal()];
+        for (int i = first; i < first + this.houses; i++) {
+            this.put(i, 0);
+        }
+        this.rows[player.ordinal()] = 0;
+        this.deposit(player, seeds);
+        return seeds;
+    }
+
+    @Override
+    void saveRow(Player player, UndoLog log) {
+        int first = this.house(player, 1);
+        for (int i = first; i < first + this.houses; i++) {
+            log.push(this.pits[i]);
+        }
+    }
+
+    @Override
+    void unsweep(Player player, UndoLog log) {
+        int first = this.house(player, 1);
+        int seeds = 0;
+        for (int i = first + this.houses - 1; i >= first; i--) {
+            this.put(i, log.pop());
+            seeds += this.pits[i];
+        }
+        int store = this.store(player);
+        this.rows[player.ordinal()] = seeds;
+        this.put(store, this.pits[store] - seeds);
+    }
+
+    @Override
+    boolean isRowEmpty(Player player) {
+        return this.rows[player.ordinal()] == 0;
+    }
+
+    private void recount() {
+        this.rows[0] = 0;
+        this.rows[1] = 0;
+        this.hash = 0;
+        this.mirrorHash = 0;
+        for (int i = 0; i < this.pits.length; i++) {
+            if (!this.isStore(i)) {
+                this.rows[this.owner(i).ordinal()] += this.pits[i];
+            }
+            if (!this.hashing) {
+                continue; // rehash recounts
+            }
+            this.hash ^= Zobrist.key(i, this.pits[i]);
+            this.mirrorHash ^= Zobrist.key(this.mirror(i), this.pits[i]);
+        }
+    }
+
+    private void addLaps(Player player, int laps) {
+        int skipped = this.store(player.opponent());
+        for (int i = 0; i < this.pits.length; i++) {
+            if (i != skipped) {
+                this.put(i, this.pits[i] + laps);
+            }
+        }
+        this.rows[Player.A.ordinal()] += this.houses * laps;
+        this.rows[Player.B.ordinal()] += this.houses * laps;
+    }
+
+    private void put(int pit, int seeds) {
+        int before = this.pits[pit];
+        this.pits[pit] = seeds;
+        if (!this.hashing) {
+            return;
+        }
+        int mirror = this.mirror(pit);
+        this.hash ^= Zobrist.key(pit, before) ^ Zobrist.key(pit, seeds);
+        this.mirrorHash ^= Zobrist.key(mirror, before) ^ Zobrist.key(mirror, seeds);
+    }
+}
@@ -0,0 +1,95 @@
+package net.alexmiranda.kalah;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public class Kalah {
+    public static Stream<String> everyHouse(int houses) {
+        var topology = Topology.of(houses);
+        return IntStream.range(0, houses * 2).mapToObj(topology::everyHouse);
+    }
+
+    public static Stream<String> everyHouse(Player player, int houses) {
+        var topology = Topology.of(houses);
+        return houseIndexes(player, houses).mapToObj(topology::name);
+    }
+
+    public static IntStream houseIndexes(int houses) {
+        var topology = Topology.of(houses);
+        return IntStream.range(0, topology.length()).filter(pit -> !topology.isStore(pit));
+    }
+
+    public static IntStream houseIndexes(Player player, int houses) {
+        var topology = Topology.of(houses);
+        int first = topology.house(player, 1);
+        return IntStream.range(first, first + houses);
+    }
+
+    public static int indexOf(String position, int houses) {
+        return Topology.of(houses).indexOf(position);
+    }
+
+    public static String positionOf(int pit, int houses) {
+        var topology = Topology.of(houses);
+        Preconditions.check(pit >= 0 && pit < topology.length(), "pit");
+        return topology.name(pit);
+    }
+
+    public static String oppositeOf(String position, int houses) {
+        var topology = Topology.of(houses);
+        return topology.name(oppositeOf(house(topology, position, "position"), houses));
+    }
+
+    public static int oppositeOf(int pit, int houses) {
+        var topology = Topology.of(houses);
+        Preconditions.check(pit >= 0 && pit < topology.length() && !topology.isStore(pit), "pit");
+        return topology.opposite(pit);
+    }
+
+    public static String plan(String start, int houses, int seeds) {
+        Preconditions.check(houses > 0, "houses");
+        Preconditions.check(seeds >= 0, "seeds");
+
+        var topology = Topology.of(houses);
+        return topology.name(topology.plan(house(topology, start, "start"), seeds));
+    }
+
+    public static int plan(int start, int houses, int seeds) {
+        Preconditions.check(houses > 0, "houses");
+        Preconditions.check(seeds >= 0, "seeds");
+
+        var topology = Topology.of(houses);
+        Preconditions.check(start >= 0 && start < topology.length() && !topology.isStore(start), "start");
+        return topology.plan(start, seeds);
+    }
+
+    public static Stream<String> forwardSequence(String startPos, int houses) {
+        var topology = Topology.of(houses);
+        return forwardSequence(house(topology, startPos, "startPos"), houses).mapToObj(topology::name);
+    }
+
+    public static IntStream forwardSequence(int start, int houses) {
+        var topology = Topology.of(houses);
+        Preconditions.check(start >= 0 && start < topology.length() && !topology.isStore(start), "start");
+        var player = topology.owner(start);
+        return IntStream.iterate(start, pit -> topology.next(player, pit)).skip(1);
+    }
+
+    public static Stream<String> backwardSequence(String startPos, int houses) {
+        var topology = Topology.of(houses);
+        return backwardSequence(house(topology, startPos, "startPos"), houses).mapToObj(topology::name);
+    }
+
+    public static IntStream backwardSequence(int start, int houses) {
+        var topology = Topology.of(houses);
+        Preconditions.check(start >= 0 && start < topology.length() && !topology.isStore(start), "start");
+        var player = topology.owner(start);
+        return IntStream.iterate(start, pit -> topology.previous(player, pit)).skip(1);
+    }
+
+    private static int house(Topology topology, String position, String argument) {
+        int pit = topology.indexOf(position);
+        Preconditions.check(pit >= 0 && !topology.isStore(pit), argument);
+        return pit;
+    }
+}
@@ -0,0 +1,120 @@
+package net.alexmiranda.kalah;
+
+import java.util.Optional;
+
+final class LongBoard implements Sowing {
+    private final Topology topology;
+    private final long[] pits;
+    private final long[] rows = new long[2]; // seeds in each player's houses
+
+    LongBoard(long[] pits) {
+        Preconditions.check(pits != null, "pits");
+        Preconditions.check(pits.length >= 4 && pits.length % 2 == 0, "pits");
+        this.topology = Topology.of(pits.length / 2 - 1);
+        this.pits = pits.clone();
+        long total = 0;
+        for (int i = 0; i < this.pits.length; i++) {
+            Preconditions.check(this.pits[i] >= 0, "seeds");
+            Preconditions.check(this.pits[i] <= Long.MAX_VALUE - total, "pits");
+            total += this.pits[i];
+            if (!this.topology.isStore(i)) {
+                this.rows[this.topology.owner(i).ordinal()] += this.pits[i];
+            }
+        }
+    }
+
+    Topology topology() {
+        return this.topology;
+    }
+
+    int length() {
+        return this.pits.length;
+    }
+
+    long seeds(int pit) {
+        return this.pits[pit];
+    }
+
+    void copyInto(long[] target) {
+        System.arraycopy(this.pits, 0, target, 0, this.pits.length);
+    }
+
+    MoveResult check(int pit, Player player) {
+        if (this.topology.isStore(pit)) {
+            return MoveResult.STORE;
+        } else if (this.pits[pit] == 0) {
+            return MoveResult.EMPTY_HOUSE;
+        } else if (player != this.topology.owner(pit)) {
+            return MoveResult.NOT_YOUR_HOUSE;
+        }
+        return MoveResult.OK;
+    }
+
+    long yield(int pit, Player player) {
+        assert this.check(pit, player) == MoveResult.OK;
+        long seeds = this.pits[pit];
+        this.pits[pit] = 0;
+        this.rows[player.ordinal()] -= seeds;
+        return seeds;
+    }
+
+    int sowFrom(int pit, Player player, long seeds) {
+        int houses = this.topology.houses();
+        int lap = this.pits.length - 1;
+        long laps = seeds / lap;
+        if (laps > 0) {
+            int skipped = this.topology.store(player.opponent());
+            for (int i = 0; i < this.pits.length; i++) {
+                if (i != skipped) {
+                    this.pits[i] += laps;
+                }
+            }
+            this.rows[0] += houses * laps;
+            this.rows[1] += houses * laps;
+        }
+        return Sowing.sowPartialLap(this, houses, pit, player, (int) (seeds - laps * lap));
+    }
+
+    @Override
+    public void sowRun(int from, int to) {
+        for (int i = from; i < to; i++) {
+            this.pits[i]++;
+        }
+        int houses = this.topology.isStore(to - 1) ? to - from - 1 : to - from;
+        this.rows[this.topology.owner(from).ordinal()] += houses;
+    }
+
+    void captureIntoStore(int pit, Player player) {
+        int opposite = this.topology.opposite(pit);
+        long seeds = this.pits[pit] + this.pits[opposite];
+        this.rows[player.ordinal()] -= this.pits[pit];
+        this.rows[player.opponent().ordinal()] -= this.pits[opposite];
+        this.pits[pit] = 0;
+        this.pits[opposite] = 0;
+        this.pits[this.topology.store(player)] += seeds;
+    }
+
+    void sweep(Player player) {
+        int first = this.topology.house(player, 1);
+        for (int i = first; i < first + this.topology.houses(); i++) {
+            this.pits[i] = 0;
+        }
+        this.pits[this.topology.store(player)] += this.rows[player.ordinal()];
+        this.rows[player.ordinal()] = 0;
+    }
+
+    boolean isRowEmpty(Player player) {
+        return this.rows[player.ordinal()] == 0;
+    }
+
+    Optional<Player> leader() {
+        long a = this.pits[this.topology.store(Player.A)];
+        long b = this.pits[this.topology.store(Player.B)];
+        if (a > b) {
+            return Optional.of(Player.A);
+        } else if (b > a) {
+            return Optional.of(Player.B);
+        }
+        return Optional.empty();
+    }
+}
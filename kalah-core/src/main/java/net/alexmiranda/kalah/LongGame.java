@@ -0,0 +1,143 @@
+package net.alexmiranda.kalah;
+
+import java.util.Map;
+import java.util.Optional;
+
+public class LongGame extends AbstractGame {
+    private final int houses;
+    private final long seeds;
+    private final LongBoard board;
+    private final Topology topology;
+    private final Map<String, Long> view;
+
+    public LongGame(int houses, long seeds) {
+        Preconditions.check(houses > 0, "houses");
+        Preconditions.check(seeds > 0, "seeds");
+        Preconditions.check(houses > 1 || seeds > 1, "seeds");
+        Preconditions.check(seeds <= Long.MAX_VALUE / 2 / houses, "seeds");
+        this.houses = houses;
+        this.seeds = seeds;
+        this.board = new LongBoard(createBoardPrototype(houses, seeds));
+        this.topology = this.board.topology();
+        this.view = new PitsView<>(this.topology, this.board::seeds);
+    }
+
+    LongGame(long[] board, Player player) {
+        Preconditions.check(player != null, "player");
+        this.board = new LongBoard(board);
+        this.topology = this.board.topology();
+        this.houses = this.topology.houses();
+        this.view = new PitsView<>(this.topology, this.board::seeds);
+
+        long totalSeeds = 0;
+        for (long seeds : board) {
+            totalSeeds += seeds;
+        }
+        Preconditions.check(totalSeeds > 0, "board");
+        Preconditions.check(totalSeeds % (this.houses * 2) == 0, "board");
+        this.seeds = totalSeeds / (this.houses * 2);
+        this.player = player;
+        if (this.checkGameOver(true)) {
+            this.terminate();
+            this.state = GameState.FINISHED;
+        }
+    }
+
+    public long seedsAt(int pit) {
+        this.checkPosition(pit);
+        return this.board.seeds(pit);
+    }
+
+    public int houseIndex(Player player, int n) {
+        Preconditions.check(player != null, "player");
+        Preconditions.check(n > 0 && n <= this.houses, "n");
+        return this.topology.house(player, n);
+    }
+
+    public int storeIndex(Player player) {
+        Preconditions.check(player != null, "player");
+        return this.topology.store(player);
+    }
+
+    public Map<String, Long> pits() {
+        return this.view;
+    }
+
+    public void copyInto(long[] pits) {
+        Preconditions.check(pits != null && pits.length >= this.board.length(), "pits");
+        this.board.copyInto(pits);
+    }
+
+    public Optional<Player> winner() {
+        return this.state == GameState.FINISHED ? this.board.leader() : Optional.empty();
+    }
+
+    public int houses() {
+        return this.houses;
+    }
+
+    public long seeds() {
+        return this.seeds;
+    }
+
+    @Override
+    int indexOf(String position) {
+        return this.topology.indexOf(position);
+    }
+
+    @Override
+    int length() {
+        return this.board.length();
+    }
+
+    @Override
+    MoveResult check(int pit) {
+        return this.board.check(pit, this.player);
+    }
+
+    // whole laps of a long count are added to every pit at once, so even huge counts sow in one pass
+    @Override
+    void apply(int pit) {
+        long seeds = this.board.yield(pit, this.player);
+        int last = this.board.sowFrom(pit, this.player, seeds);
+        this.state = this.topology.owner(last) == this.player
+            ? GameState.SOWING_OWN_ROW
+            : GameState.SOWING_OPPONENT_ROW;
+        this.state.endTurn(this, last);
+    }
+
+    @Override
+    boolean isStore(int pit) {
+        return this.topology.isStore(pit);
+    }
+
+    @Override
+    boolean holdsOneSeed(int pit) {
+        return this.board.seeds(pit) == 1;
+    }
+
+    @Override
+    void captureIntoStore(int pit) {
+        this.board.captureIntoStore(pit, this.player);
+    }
+
+    @Override
+    boolean isRowEmpty(Player player) {
+        return this.board.isRowEmpty(player);
+    }
+
+    @Override
+    void terminate() {
+        this.board.sweep(Player.A);
+        this.board.sweep(Player.B);
+    }
+
+    private static long[] createBoardPrototype(int h, long s) {
+        long[] board = new long[h * 2 + 2];
+        for (int i = 0; i < h; i++) {
+            board[i] = s;
+            board[h + i + 1] = s;
+        }
+        return board;
+    }
+}
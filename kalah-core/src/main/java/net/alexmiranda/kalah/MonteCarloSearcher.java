@@ -0,0 +1,349 @@
+package net.alexmiranda.kalah;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// UCT over a tree kept in parallel arrays. Threads share the tree: a visit is
+// counted on the way down and its result only on the way back up, so until
+// then it weighs as a loss (virtual loss) and steers other threads elsewhere.
+// Every node records the side that moved into it, so extra turns need no
+// special casing. search and advance must not overlap.
+public final class MonteCarloSearcher {
+    private static final int DEFAULT_CAPACITY = 1 << 16;
+    private static final int ROOT = 0;
+    private static final double EXPLORATION = Math.sqrt(2);
+
+    // node states
+    private static final int LEAF = 0;
+    private static final int EXPANDING = 1;
+    private static final int EXPANDED = 2;
+    private static final int FULL = 3; // left a leaf, the pool had no room for its children
+
+    private final Game root; // the position at the root of the tree
+    private final SplittableRandom random;
+    private final LongSupplier clock; // nanoTime, or a fake one in tests
+    private Nodes nodes;
+    private Nodes spare; // the tree is copied here when advancing, then the two swap
+
+    public MonteCarloSearcher(Game game, long seed) {
+        this(game, DEFAULT_CAPACITY, seed);
+    }
+
+    public MonteCarloSearcher(Game game, int capacity, long seed) {
+        this(game, capacity, seed, System::nanoTime);
+    }
+
+    MonteCarloSearcher(Game game, int capacity, long seed, LongSupplier clock) {
+        Preconditions.check(game != null, "game");
+        Preconditions.check(capacity > game.houses(), "capacity");
+        this.root = game.copy();
+        this.random = new SplittableRandom(seed);
+        this.clock = clock;
+        this.nodes = new Nodes(capacity);
+        this.nodes.clear(this.root.player().opponent());
+    }
+
+    // runs playouts until the budget or the time limit runs out, whichever
+    // comes first, and returns the most visited move
+    public int search(long playouts, Duration limit) {
+        return this.search(playouts, limit, 1, ForkJoinPool.commonPool());
+    }
+
+    public int search(long playouts, Duration limit, int threads) {
+        return this.search(playouts, limit, threads, ForkJoinPool.commonPool());
+    }
+
+    public int search(long playouts, Duration limit, int threads, Executor executor) {
+        Preconditions.check(playouts > 0, "playouts");
+        Preconditions.check(limit != null && !limit.isNegative(), "limit");
+        Preconditions.check(threads > 0, "threads");
+        Preconditions.check(executor != null, "executor");
+        if (this.root.isOver()) {
+            throw GameOverException.INSTANCE;
+        }
+        long deadline = Deadlines.after(this.clock, limit);
+        var budget = new AtomicLong(playouts);
+
+        var workers = new Worker[threads];
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new Worker(this.root.copy(), this.random.split());
+        }
+        if (threads == 1) {
+            workers[0].run(budget, deadline);
+        } else {
+            var tasks = new CompletableFuture<?>[threads];
+            for (int i = 0; i < threads; i++) {
+                var worker = workers[i];
+                tasks[i] = CompletableFuture.runAsync(() -> worker.run(budget, deadline), executor);
+            }
+            CompletableFuture.allOf(tasks).join();
+        }
+        return this.bestMove();
+    }
+
+    // the most visited move so far, or the first legal one before any search
+    public int bestMove() {
+        if (this.root.isOver()) {
+            throw GameOverException.INSTANCE;
+        }
+        var nodes = this.nodes;
+        int best = -1;
+        if (nodes.state.get(ROOT) == EXPANDED) {
+            int first = nodes.firstChild[ROOT];
+            for (int child = first; child < first + nodes.childCount[ROOT]; child++) {
+                if (best < 0 || nodes.visits.get(child) > nodes.visits.get(best)) {
+                    best = child;
+                }
+            }
+        }
+        if (best >= 0) {
+            return nodes.move[best];
+        }
+        var moves = new int[this.root.houses()];
+        this.root.legalMoves(moves);
+        return moves[0];
+    }
+
+    // plays a move at the root, keeping the part of the tree below it
+    public void advance(int pit) {
+        this.root.play(pit);
+        var nodes = this.nodes;
+        int kept = -1;
+        if (nodes.state.get(ROOT) == EXPANDED) {
+            int first = nodes.firstChild[ROOT];
+            for (int child = first; child < first + nodes.childCount[ROOT]; child++) {
+                if (nodes.move[child] == pit) {
+                    kept = child;
+                }
+            }
+        }
+
+        if (this.spare == null) {
+            this.spare = new Nodes(nodes.capacity());
+        }
+        if (kept < 0) {
+            this.spare.clear(this.root.player().opponent());
+        } else {
+            this.spare.copySubtree(nodes, kept);
+        }
+        this.nodes = this.spare;
+        this.spare = nodes;
+    }
+
+    public long playouts() {
+        return this.nodes.visits.get(ROOT);
+    }
+
+    public long visits(int pit) {
+        int child = this.child(pit);
+        return child < 0 ? 0 : this.nodes.visits.get(child);
+    }
+
+    // share of the playouts through this move won by the player to move,
+    // counting draws as half
+    public double winRate(int pit) {
+        int child = this.child(pit);
+        int visits = child < 0 ? 0 : this.nodes.visits.get(child);
+        return visits == 0 ? 0.0 : this.nodes.score.get(child) / (2.0 * visits);
+    }
+
+    public int size() {
+        return this.nodes.size();
+    }
+
+    private int child(int pit) {
+        var nodes = this.nodes;
+        if (nodes.state.get(ROOT) != EXPANDED) {
+            return -1;
+        }
+        int first = nodes.firstChild[ROOT];
+        for (int child = first; child < first + nodes.childCount[ROOT]; child++) {
+            if (nodes.move[child] == pit) {
+                return child;
+            }
+        }
+        return -1;
+    }
+
+    private final class Worker {
+        private final Game game;
+        private final SplittableRandom random;
+        private final int[] moves;
+        private int[] path = new int[64];
+
+        Worker(Game game, SplittableRandom random) {
+            this.game = game;
+            this.random = random;
+            this.moves = new int[game.houses()];
+        }
+
+        void run(AtomicLong budget, long deadline) {
+            var start = MonteCarloSearcher.this.root;
+            var nodes = MonteCarloSearcher.this.nodes;
+            var clock = MonteCarloSearcher.this.clock;
+            while (budget.getAndDecrement() > 0 && clock.getAsLong() - deadline < 0) {
+                this.game.copyFrom(start);
+                this.playout(nodes);
+            }
+        }
+
+        private void playout(Nodes nodes) {
+            var game = this.game;
+            int node = ROOT;
+            int length = 0;
+            this.push(length++, node);
+            nodes.visits.incrementAndGet(node);
+            while (!game.isOver()) {
+                int state = nodes.state.get(node);
+                if (state == LEAF && (node == ROOT || nodes.visits.get(node) > 1)
+                        && nodes.state.compareAndSet(node, LEAF, EXPANDING)) {
+                    state = nodes.expand(node, game, this.moves) ? EXPANDED : FULL;
+                    nodes.state.set(node, state);
+                }
+                if (state != EXPANDED) {
+                    break;
+                }
+                node = nodes.select(node);
+                nodes.visits.incrementAndGet(node); // the virtual loss, until the result is in
+                game.play(nodes.move[node]);
+                this.push(length++, node);
+            }
+
+            int count;
+            while (!game.isOver() && (count = game.legalMoves(this.moves)) > 0) {
+                game.play(this.moves[this.random.nextInt(count)]);
+            }
+            var winner = game.winner();
+            for (int i = 0; i < length; i++) {
+                int n = this.path[i];
+                int reward = winner.isEmpty() ? 1 : winner.get().ordinal() == nodes.mover[n] ? 2 : 0;
+                nodes.score.addAndGet(n, reward);
+            }
+        }
+
+        private void push(int i, int node) {
+            if (i == this.path.length) {
+                this.path = Arrays.copyOf(this.path, i * 2);
+            }
+            this.path[i] = node;
+        }
+    }
+
+    // Children of a node are allocated as one contiguous block. The plain
+    // arrays are written before the node's state turns EXPANDED and read
+    // after seeing it, so the atomic state publishes them.
+    private static final class Nodes {
+        final int[] move; // the pit played to reach the node
+        final byte[] mover; // Player ordinal of the side that played it
+        final int[] firstChild;
+        final int[] childCount;
+        final AtomicIntegerArray state;
+        final AtomicIntegerArray visits;
+        final AtomicIntegerArray score; // half points for the mover: 2 a win, 1 a draw
+        final AtomicInteger next = new AtomicInteger();
+
+        Nodes(int capacity) {
+            this.move = new int[capacity];
+            this.mover = new byte[capacity];
+            this.firstChild = new int[capacity];
+            this.childCount = new int[capacity];
+            this.state = new AtomicIntegerArray(capacity);
+            this.visits = new AtomicIntegerArray(capacity);
+            this.score = new AtomicIntegerArray(capacity);
+        }
+
+        int capacity() {
+            return this.move.length;
+        }
+
+        int size() {
+            return Math.min(this.next.get(), this.capacity());
+        }
+
+        void clear(Player mover) {
+            this.next.set(1);
+            this.init(ROOT, -1, mover);
+        }
+
+        boolean expand(int node, Game game, int[] moves) {
+            int count = game.legalMoves(moves);
+            int first = this.next.getAndAdd(count);
+            if (first + count > this.capacity() || first + count < 0) {
+                return false;
+            }
+            for (int i = 0; i < count; i++) {
+                this.init(first + i, moves[i], game.player());
+            }
+            this.firstChild[node] = first;
+            this.childCount[node] = count;
+            return true;
+        }
+
+        int select(int node) {
+            int first = this.firstChild[node];
+            double log = Math.log(Math.max(this.visits.get(node), 1));
+            int best = first;
+            double bestValue = Double.NEGATIVE_INFINITY;
+            for (int child = first; child < first + this.childCount[node]; child++) {
+                int visits = this.visits.get(child);
+                if (visits == 0) {
+                    return child;
+                }
+                double value = this.score.get(child) / (2.0 * visits) + EXPLORATION * Math.sqrt(log / visits);
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = child;
+                }
+            }
+            return best;
+        }
+
+        // copies the subtree below node in another tree, breadth first, so
+        // that node becomes the root here
+        void copySubtree(Nodes from, int node) {
+            this.next.set(1);
+            this.copyNode(from, node, ROOT);
+            for (int i = ROOT; i < this.next.get(); i++) {
+                if (this.state.get(i) != EXPANDED) {
+                    continue;
+                }
+                int source = this.firstChild[i];
+                int count = this.childCount[i];
+                int first = this.next.getAndAdd(count);
+                for (int k = 0; k < count; k++) {
+                    this.copyNode(from, source + k, first + k);
+                }
+                this.firstChild[i] = first;
+            }
+        }
+
+        private void copyNode(Nodes from, int source, int target) {
+            this.move[target] = from.move[source];
+            this.mover[target] = from.mover[source];
+            this.firstChild[target] = from.firstChild[source];
+            this.childCount[target] = from.childCount[source];
+            int state = from.state.get(source);
+            this.state.set(target, state == FULL ? LEAF : state);
+            this.visits.set(target, from.visits.get(source));
+            this.score.set(target, from.score.get(source));
+        }
+
+        private void init(int node, int move, Player mover) {
+            this.move[node] = move;
+            this.mover[node] = (byte) mover.ordinal();
+            this.firstChild[node] = -1;
+            this.childCount[node] = 0;
+            this.state.set(node, LEAF);
+            this.visits.set(node, 0);
+            this.score.set(node, 0);
+        }
+    }
+}
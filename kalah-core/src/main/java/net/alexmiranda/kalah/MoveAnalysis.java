@@ -0,0 +1,100 @@
+package net.alexmiranda.kalah;
+
+import java.util.Arrays;
+
+public final class MoveAnalysis {
+    private final int houses;
+    private final long[] legal; // bit n - 1 for house n
+    private final long[] extraTurns;
+    private final int[] landing;
+    private final int[] captured;
+    private Player player = Player.A;
+
+    public MoveAnalysis(int houses) {
+        Preconditions.check(houses > 0, "houses");
+        this.houses = houses;
+        this.legal = new long[(houses + 63) >>> 6];
+        this.extraTurns = new long[this.legal.length];
+        this.landing = new int[houses];
+        this.captured = new int[houses];
+        Arrays.fill(this.landing, -1);
+    }
+
+    public int houses() {
+        return this.houses;
+    }
+
+    public Player player() {
+        return this.player;
+    }
+
+    public boolean isLegal(int n) {
+        return isSet(this.legal, this.checkHouse(n));
+    }
+
+    public long legalMask() {
+        return mask(this.legal, this.houses);
+    }
+
+    public int legalCount() {
+        int count = 0;
+        for (long word : this.legal) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    public int landing(int n) {
+        return this.landing[this.checkHouse(n)];
+    }
+
+    public boolean isExtraTurn(int n) {
+        return isSet(this.extraTurns, this.checkHouse(n));
+    }
+
+    public long extraTurnMask() {
+        return mask(this.extraTurns, this.houses);
+    }
+
+    public boolean isCapture(int n) {
+        return this.captured[this.checkHouse(n)] > 0;
+    }
+
+    public int captured(int n) {
+        return this.captured[this.checkHouse(n)];
+    }
+
+    void clear(Player player) {
+        this.player = player;
+        Arrays.fill(this.legal, 0);
+        Arrays.fill(this.extraTurns, 0);
+        Arrays.fill(this.landing, -1);
+        Arrays.fill(this.captured, 0);
+    }
+
+    void set(int n, int landing, boolean extraTurn, int captured) {
+        int i = n - 1;
+        this.legal[i >>> 6] |= 1L << i;
+        if (extraTurn) {
+            this.extraTurns[i >>> 6] |= 1L << i;
+        }
+        this.landing[i] = landing;
+        this.captured[i] = captured;
+    }
+
+    private int checkHouse(int n) {
+        Preconditions.check(n > 0 && n <= this.houses, "n");
+        return n - 1;
+    }
+
+    private static boolean isSet(long[] bits, int i) {
+        return (bits[i >>> 6] & 1L << i) != 0;
+    }
+
+    private static long mask(long[] bits, int houses) {
+        if (houses > Long.SIZE) {
+            throw new IllegalStateException("more than " + Long.SIZE + " houses");
+        }
+        return bits[0];
+    }
+}
@@ -0,0 +1,10 @@
+package net.alexmiranda.kalah;
+
+public enum MoveResult {
+    OK,
+    EMPTY_HOUSE,
+    NOT_YOUR_HOUSE,
+    STORE,
+    UNKNOWN,
+    GAME_OVER;
+}
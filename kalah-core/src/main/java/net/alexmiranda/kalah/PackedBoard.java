@@ -0,0 +1,357 @@
+package net.alexmiranda.kalah;
+
+// Keeps each pit in an 8-bit lane of two words, pits 0-7 in lo and 8-15 in hi.
+// A board qualifies when no lane can overflow, i.e. the total fits in a lane.
+final class PackedBoard extends Board {
+    static final int MAX_HOUSES = 7;
+    static final int MAX_SEEDS = 0xff;
+
+    private static final int LANES = 8;
+    private static final long BYTE_SUM = 0x0101010101010101L;
+    private static final Lanes[] LANES_BY_HOUSES = new Lanes[MAX_HOUSES + 1];
+
+    static {
+        for (int houses = 1; houses <= MAX_HOUSES; houses++) {
+            LANES_BY_HOUSES[houses] = new Lanes(houses);
+        }
+    }
+
+    private final Lanes lanes;
+    private long lo;
+    private long hi;
+    private long hash;
+    private long mirrorHash; // hash of the same pits with rows A and B swapped
+    private boolean hashing = true;
+
+    PackedBoard(int[] pits) {
+        super(pits.length / 2 - 1);
+        assert this.houses <= MAX_HOUSES;
+        this.lanes = LANES_BY_HOUSES[this.houses];
+        this.pack(pits);
+    }
+
+    private PackedBoard(PackedBoard other) {
+        super(other.houses);
+        this.lanes = other.lanes;
+        this.copyFrom(other);
+    }
+
+    @Override
+    PackedBoard copy() {
+        return new PackedBoard(this);
+    }
+
+    @Override
+    void copyFrom(Board board) {
+        var other = (PackedBoard) board;
+        assert this.houses == other.houses;
+        this.lo = other.lo;
+        this.hi = other.hi;
+        this.hash = other.hash;
+        this.mirrorHash = other.mirrorHash;
+    }
+
+    @Override
+    boolean canHold(long seeds) {
+        return seeds <= MAX_SEEDS;
+    }
+
+    @Override
+    void load(int[] pits) {
+        Preconditions.check(pits != null && pits.length == this.length, "pits");
+        long total = 0;
+        for (int seeds : pits) {
+            Preconditions.check(seeds >= 0, "seeds");
+            total += seeds;
+        }
+        Preconditions.check(total <= MAX_SEEDS, "pits");
+        this.pack(pits);
+    }
+
+    @Override
+    void fill(int seeds) {
+        Preconditions.check(seeds >= 0 && 2L * this.houses * seeds <= MAX_SEEDS, "seeds");
+        var lanes = this.lanes;
+        this.lo = seeds * ((lanes.rowLo[0] | lanes.rowLo[1]) & BYTE_SUM);
+        this.hi = seeds * ((lanes.rowHi[0] | lanes.rowHi[1]) & BYTE_SUM);
+        this.recount();
+    }
+
+    @Override
+    void deferHashes() {
+        this.hashing = false;
+    }
+
+    @Override
+    void rehash() {
+        this.hashing = true;
+        this.recount();
+    }
+
+    @Override
+    int seeds(int pit) {
+        long word = pit < LANES ? this.lo : this.hi;
+        return (int) (word >>> shift(pit)) & MAX_SEEDS;
+    }
+
+    @Override
+    long hash() {
+        return this.hash;
+    }
+
+    @Override
+    long mirrorHash() {
+        return this.mirrorHash;
+    }
+
+    @Override
+    boolean sameSeeds(Board board) {
+        if (board instanceof PackedBoard other) {
+            return this.lo == other.lo && this.hi == other.hi && this.houses == other.houses;
+        }
+        return super.sameSeeds(board);
+    }
+
+    @Override
+    void copyInto(int[] target) {
+        for (int pit = 0; pit < this.length; pit++) {
+            target[pit] = this.seeds(pit);
+        }
+    }
+
+    @Override
+    int yield(int pit, Player player) {
+        assert !this.isStore(pit);
+        if (player != this.owner(pit)) {
+            throw OpponentHouseException.INSTANCE;
+        }
+        int existingSeeds = this.seeds(pit);
+        this.clear(pit);
+        return existingSeeds;
+    }
+
+    @Override
+    int capture(int pit, Player player) {
+        assert !this.isStore(pit);
+        if (player != this.owner(pit)) {
+            throw HouseCaptureException.INSTANCE;
+        }
+        int opposite = this.opposite(pit);
+        int existingSeeds = this.seeds(pit) + this.seeds(opposite);
+        this.clear(pit);
+        this.clear(opposite);
+        return existingSeeds;
+    }
+
+    @Override
+    int sowFrom(int pit, Player player, int seeds) {
+        assert !this.isStore(pit) && player == this.owner(pit);
+        var lanes = this.lanes;
+        int p = player.ordinal();
+        int lap = this.length - 1;
+        int laps = seeds / lap;
+        int i = pit * lap + seeds - laps * lap;
+        this.update(this.lo + laps * lanes.lapLo[p] + lanes.sownLo[i], this.hi + laps * lanes.lapHi[p] + lanes.sownHi[i]);
+        return lanes.last[i];
+    }
+
+    @Override
+    void unsow(int pit, Player player, int seeds) {
+        var lanes = this.lanes;
+        int p = player.ordinal();
+        int lap = this.length - 1;
+        int laps = seeds / lap;
+        int i = pit * lap + seeds - laps * lap;
+        long lo = this.lo - laps * lanes.lapLo[p] - lanes.sownLo[i];
+        long hi = this.hi - laps * lanes.lapHi[p] - lanes.sownHi[i];
+        long lane = (long) seeds << shift(pit);
+        if (pit < LANES) {
+            lo += lane;
+        } else {
+            hi += lane;
+        }
+        this.update(lo, hi);
+    }
+
+    @Override
+    void uncapture(int pit, Player player, int captured) {
+        this.add(pit, 1);
+        this.add(this.opposite(pit), captured);
+        this.add(this.store(player), -captured - 1);
+    }
+
+    @Override
+    void deposit(Player player, int seeds) {
+        Preconditions.check(seeds >= 0, "seeds");
+        this.add(this.store(player), seeds);
+    }
+
+    @Override
+    int sweep(Player player) {
+        int p = player.ordinal();
+        int seeds = this.rowSeeds(player);
+        this.update(this.lo & ~this.lanes.rowLo[p], this.hi & ~this.lanes.rowHi[p]);
+        this.add(this.store(player), seeds);
+        return seeds;
+    }
+
+    @Override
+    void saveRow(Player player, UndoLog log) {
+        int first = this.house(player, 1);
+        for (int i = first; i < first + this.houses; i++) {
+            log.push(this.seeds(i));
+        }
+    }
+
+    @Override
+    void unsweep(Player player, UndoLog log) {
+        int first = this.house(player, 1);
+        int seeds = 0;
+        for (int i = first + this.houses - 1; i >= first; i--) {
+            int n = log.pop();
+            this.add(i, n);
+            seeds += n;
+        }
+        this.add(this.store(player), -seeds);
+    }
+
+    @Override
+    boolean isRowEmpty(Player player) {
+        int p = player.ordinal();
+        return ((this.lo & this.lanes.rowLo[p]) | (this.hi & this.lanes.rowHi[p])) == 0;
+    }
+
+    private void pack(int[] pits) {
+        long lo = 0;
+        long hi = 0;
+        for (int pit = 0; pit < pits.length; pit++) {
+            long lane = (long) pits[pit] << shift(pit);
+            if (pit < LANES) {
+                lo += lane;
+            } else {
+                hi += lane;
+            }
+        }
+        this.lo = lo;
+        this.hi = hi;
+        this.recount();
+    }
+
+    private int rowSeeds(Player player) {
+        // no lane carries into the next while the whole board fits in one lane
+        int p = player.ordinal();
+        return (int) (((this.lo & this.lanes.rowLo[p]) * BYTE_SUM) >>> 56)
+            + (int) (((this.hi & this.lanes.rowHi[p]) * BYTE_SUM) >>> 56);
+    }
+
+    private void add(int pit, int seeds) {
+        // a negative count borrows within its own lane only, as lanes never go below zero
+        long lane = (long) seeds << shift(pit);
+        if (pit < LANES) {
+            this.update(this.lo + lane, this.hi);
+        } else {
+            this.update(this.lo, this.hi + lane);
+        }
+    }
+
+    private void clear(int pit) {
+        long mask = ~((long) MAX_SEEDS << shift(pit));
+        if (pit < LANES) {
+            this.update(this.lo & mask, this.hi);
+        } else {
+            this.update(this.lo, this.hi & mask);
+        }
+    }
+
+    private void update(long lo, long hi) {
+        if (this.hashing) {
+            this.rehashLanes(this.lo, lo, 0);
+            this.rehashLanes(this.hi, hi, LANES);
+        }
+        this.lo = lo;
+        this.hi = hi;
+    }
+
+    // swaps the keys of just the lanes that differ between the two words
+    private void rehashLanes(long before, long after, int first) {
+        for (long changed = before ^ after; changed != 0; ) {
+            int shift = Long.numberOfTrailingZeros(changed) & ~(LANES - 1);
+            int pit = first + (shift >>> 3);
+            int mirror = this.mirror(pit);
+            int from = (int) (before >>> shift) & MAX_SEEDS;
+            int to = (int) (after >>> shift) & MAX_SEEDS;
+            this.hash ^= Zobrist.key(pit, from) ^ Zobrist.key(pit, to);
+            this.mirrorHash ^= Zobrist.key(mirror, from) ^ Zobrist.key(mirror, to);
+            changed &= ~((long) MAX_SEEDS << shift);
+        }
+    }
+
+    private void recount() {
+        this.hash = 0;
+        this.mirrorHash = 0;
+        for (int pit = 0; pit < this.length; pit++) {
+            int seeds = this.seeds(pit);
+            this.hash ^= Zobrist.key(pit, seeds);
+            this.mirrorHash ^= Zobrist.key(this.mirror(pit), seeds);
+        }
+    }
+
+    private static int shift(int pit) {
+        return (pit & (LANES - 1)) << 3;
+    }
+
+    // Precomputed one-seed-per-lane masks: a full lap for each player and the
+    // partial lap sown by every remainder from every house, indexed pit * lap + remainder.
+    private static final class Lanes {
+        final long[] lapLo = new long[2];
+        final long[] lapHi = new long[2];
+        final long[] rowLo = new long[2];
+        final long[] rowHi = new long[2];
+        final long[] sownLo;
+        final long[] sownHi;
+        final int[] last;
+
+        Lanes(int houses) {
+            int length = houses * 2 + 2;
+            int lap = length - 1;
+            this.sownLo = new long[length * lap];
+            this.sownHi = new long[length * lap];
+            this.last = new int[length * lap];
+
+            for (Player player : Player.values()) {
+                int p = player.ordinal();
+                int skipped = player == Player.A ? length - 1 : houses;
+                int first = player == Player.A ? 0 : houses + 1;
+                for (int pit = 0; pit < length; pit++) {
+                    if (pit != skipped) {
+                        this.lapLo[p] |= unit(pit, 0);
+                        this.lapHi[p] |= unit(pit, LANES);
+                    }
+                }
+                for (int pit = first; pit < first + houses; pit++) {
+                    this.rowLo[p] |= unit(pit, 0) * MAX_SEEDS;
+                    this.rowHi[p] |= unit(pit, LANES) * MAX_SEEDS;
+
+                    int next = pit;
+                    long lo = 0;
+                    long hi = 0;
+                    for (int left = 0; left < lap; left++) {
+                        this.sownLo[pit * lap + left] = lo;
+                        this.sownHi[pit * lap + left] = hi;
+                        this.last[pit * lap + left] = next;
+                        next = next + 1 == length ? 0 : next + 1;
+                        if (next == skipped) {
+                            next = next + 1 == length ? 0 : next + 1;
+                        }
+                        lo |= unit(next, 0);
+                        hi |= unit(next, LANES);
+                    }
+                }
+            }
+        }
+
+        private static long unit(int pit, int base) {
+            return pit >= base && pit < base + LANES ? 1L << shift(pit) : 0;
+        }
+    }
+}
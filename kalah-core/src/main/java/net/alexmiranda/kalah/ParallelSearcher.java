@@ -0,0 +1,103 @@
+package net.alexmiranda.kalah;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+// Lazy SMP: every thread of a search runs its own iterative deepening over
+// the same root and they only cooperate through one shared table, which
+// lets a thread skip subtrees another one has already finished.
+public final class ParallelSearcher implements AutoCloseable {
+    private static final int DEFAULT_TABLE_BITS = 22;
+    private static final long IDLE_SECONDS = 30;
+
+    private final int maxThreads;
+    private final Executor executor;
+    private final boolean ownsExecutor;
+    private final LongSupplier clock;
+    private final TranspositionTable table; // shared by all the searches started here
+
+    // the searcher owns the pool its helpers run on until it is closed
+    public ParallelSearcher(int maxThreads) {
+        this(maxThreads, DEFAULT_TABLE_BITS, pool(maxThreads), true, System::nanoTime);
+    }
+
+    public ParallelSearcher(int maxThreads, int tableBits, Executor executor) {
+        this(maxThreads, tableBits, executor, System::nanoTime);
+    }
+
+    ParallelSearcher(int maxThreads, int tableBits, Executor executor, LongSupplier clock) {
+        this(maxThreads, tableBits, executor, false, clock);
+    }
+
+    private ParallelSearcher(int maxThreads, int tableBits, Executor executor, boolean ownsExecutor, LongSupplier clock) {
+        Preconditions.check(maxThreads > 0, "maxThreads");
+        Preconditions.check(executor != null, "executor");
+        this.maxThreads = maxThreads;
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+        this.clock = clock;
+        this.table = new TranspositionTable(tableBits);
+    }
+
+    public SearchHandle search(Game game, Duration limit) {
+        return this.search(game, limit, this.maxThreads);
+    }
+
+    public SearchHandle search(Game game, Duration limit, int threads) {
+        Preconditions.check(game != null, "game");
+        Preconditions.check(limit != null && !limit.isNegative(), "limit");
+        Preconditions.check(threads > 0 && threads <= this.maxThreads, "threads");
+        if (game.isOver()) {
+            throw GameOverException.INSTANCE;
+        }
+        long deadline = Deadlines.after(this.clock, limit);
+
+        var handle = new SearchHandle(threads);
+        for (int helper = 0; helper < threads; helper++) {
+            var start = game.copy(); // copied here, so the caller may go on with the game
+            int id = helper;
+            CompletableFuture
+                .supplyAsync(() -> handle.isCancelled() && id > 0
+                    ? null
+                    : new Searcher(this.table, this.clock).search(start, deadline, id, handle.cancelled()), this.executor)
+                .whenComplete((result, error) -> handle.complete(id, result, error));
+        }
+        return handle;
+    }
+
+    public void clear() {
+        this.table.clear();
+    }
+
+    public int maxThreads() {
+        return this.maxThreads;
+    }
+
+    // shuts down the pool the searcher created, once running searches end;
+    // an executor passed in stays the caller's to shut down
+    @Override
+    public void close() {
+        if (this.ownsExecutor) {
+            ((ExecutorService) this.executor).shutdown();
+        }
+    }
+
+    // helpers block until the deadline, so by default they get threads of
+    // their own rather than the common pool; idle threads die off by themselves
+    static ThreadPoolExecutor pool(int maxThreads) {
+        Preconditions.check(maxThreads > 0, "maxThreads");
+        var pool = new ThreadPoolExecutor(maxThreads, maxThreads, IDLE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), task -> {
+            var thread = new Thread(task, "kalah-search");
+            thread.setDaemon(true);
+            return thread;
+        });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+}
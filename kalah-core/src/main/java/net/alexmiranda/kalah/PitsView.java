@@ -0,0 +1,69 @@
+package net.alexmiranda.kalah;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+final class PitsView<V> extends AbstractMap<String, V> {
+    private final Topology topology;
+    private final IntFunction<V> seeds;
+    private final Set<Map.Entry<String, V>> entries = new Entries();
+
+    PitsView(Topology topology, IntFunction<V> seeds) {
+        this.topology = topology;
+        this.seeds = seeds;
+    }
+
+    @Override
+    public int size() {
+        return this.topology.length();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return this.topology.indexOf(key) >= 0;
+    }
+
+    @Override
+    public V get(Object key) {
+        int pit = this.topology.indexOf(key);
+        return pit >= 0 ? this.seeds.apply(pit) : null;
+    }
+
+    @Override
+    public Set<Map.Entry<String, V>> entrySet() {
+        return this.entries;
+    }
+
+    private final class Entries extends AbstractSet<Map.Entry<String, V>> {
+        @Override
+        public int size() {
+            return topology.length();
+        }
+
+        @Override
+        public Iterator<Map.Entry<String, V>> iterator() {
+            return new Iterator<>() {
+                private int pit = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return this.pit < topology.length();
+                }
+
+                @Override
+                public Map.Entry<String, V> next() {
+                    if (!this.hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    int pit = this.pit++;
+                    return new SimpleImmutableEntry<>(topology.name(pit), seeds.apply(pit));
+                }
+            };
+        }
+    }
+}
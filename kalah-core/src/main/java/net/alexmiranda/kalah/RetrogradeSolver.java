@@ -0,0 +1,162 @@
+package net.alexmiranda.kalah;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Seeds in play never increase, so positions are solved a group at a time,
+// from no seeds up, with every move out of a group looking up values that
+// are already final. A move that keeps all its seeds in play stays on the
+// mover's side without reaching the store, which brings seeds strictly
+// closer to it, so within a group the recursion cannot cycle.
+//
+// Values are the margin the player to move still gets out of the seeds in
+// play, stored biased by 128 so that 0 means not yet solved.
+final class RetrogradeSolver {
+    static final int UNSOLVED = 0;
+    static final int BIAS = 128;
+
+    private static final int LEAF_POSITIONS = 4096;
+
+    private final EndgameIndex index;
+    private final ByteBuffer values; // index.size() bytes, all UNSOLVED to begin with
+
+    RetrogradeSolver(EndgameIndex index, ByteBuffer values) {
+        assert values.capacity() >= index.size();
+        this.index = index;
+        this.values = values;
+    }
+
+    void solve(ForkJoinPool pool) {
+        for (int seeds = 0; seeds <= this.index.maxSeeds(); seeds++) {
+            pool.invoke(new Group(seeds, this.index.first(seeds), this.index.end(seeds)));
+        }
+    }
+
+    private final class Group extends RecursiveAction {
+        private final int seeds;
+        private final long from;
+        private final long to;
+
+        Group(int seeds, long from, long to) {
+            this.seeds = seeds;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from > LEAF_POSITIONS) {
+                long middle = (this.from + this.to) >>> 1;
+                invokeAll(new Group(this.seeds, this.from, middle), new Group(this.seeds, middle, this.to));
+                return;
+            }
+            var worker = new Worker();
+            var rows = new int[RetrogradeSolver.this.index.houses() * 2];
+            for (long i = this.from; i < this.to; i++) {
+                if (RetrogradeSolver.this.values.get((int) i) == UNSOLVED) {
+                    RetrogradeSolver.this.index.positionAt(i, this.seeds, rows);
+                    worker.solve(rows, this.seeds, i);
+                }
+            }
+        }
+    }
+
+    // Moves are played on a board with the mover as A, and end through the
+    // states of Game, so the table follows the rules every engine plays by.
+    // Positions where the side to move has an empty row are unreachable,
+    // since Game ends the game first; their index entries are filled only to
+    // complete the table, each side keeping its own row.
+    private final class Worker extends Turn {
+        private final int houses = RetrogradeSolver.this.index.houses();
+        private final int[] pits = new int[this.houses * 2 + 2];
+        private final IntBoard board = new IntBoard(this.pits);
+        private final int[] child = new int[this.houses * 2];
+
+        Worker() {
+            this.board.deferHashes(); // positions are looked up by index, never by hash
+        }
+
+        int solve(int[] rows, int seeds, long index) {
+            int h = this.houses;
+            int own = 0;
+            for (int i = 0; i < h; i++) {
+                own += rows[i];
+            }
+            int value = own - (seeds - own);
+            if (own > 0) {
+                value = -seeds;
+                for (int pit = 0; pit < h; pit++) {
+                    if (rows[pit] > 0) {
+                        value = Math.max(value, this.play(rows, seeds, pit));
+                    }
+                }
+            }
+            RetrogradeSolver.this.values.put((int) index, (byte) (value + BIAS));
+            return value;
+        }
+
+        // the margin for the mover of playing the pit, rows being left as they were
+        private int play(int[] rows, int seeds, int pit) {
+            int h = this.houses;
+            for (int i = 0; i < h; i++) {
+                this.pits[i] = rows[i];
+                this.pits[h + 1 + i] = rows[h + i];
+            }
+            this.board.load(this.pits);
+            this.player = Player.A;
+            this.isOver = false;
+
+            int sown = this.board.yield(pit, Player.A);
+            int last = this.board.sowFrom(pit, Player.A, sown);
+            this.state = this.board.owner(last) == Player.A
+                ? GameState.SOWING_OWN_ROW
+                : GameState.SOWING_OPPONENT_ROW;
+            this.state.endTurn(this, last);
+
+            int margin = this.board.seeds(h) - this.board.seeds(2 * h + 1);
+            if (this.isOver) {
+                return margin;
+            }
+
+            boolean again = this.player == Player.A;
+            int[] child = this.child;
+            for (int i = 0; i < h; i++) {
+                child[again ? i : h + i] = this.board.seeds(i);
+                child[again ? h + i : i] = this.board.seeds(h + 1 + i);
+            }
+            int left = seeds - this.board.seeds(h) - this.board.seeds(2 * h + 1);
+            long index = RetrogradeSolver.this.index.indexOf(child, left);
+            int stored = RetrogradeSolver.this.values.get((int) index);
+            int value = stored != UNSOLVED ? (stored & 0xff) - BIAS : this.solve(child.clone(), left, index);
+            return again ? margin + value : margin - value;
+        }
+
+        @Override
+        boolean isStore(int pit) {
+            return this.board.isStore(pit);
+        }
+
+        @Override
+        boolean holdsOneSeed(int pit) {
+            return this.board.seeds(pit) == 1;
+        }
+
+        @Override
+        void captureIntoStore(int pit) {
+            int seeds = this.board.capture(pit, this.player);
+            this.board.deposit(this.player, seeds);
+        }
+
+        @Override
+        boolean isRowEmpty(Player player) {
+            return this.board.isRowEmpty(player);
+        }
+
+        @Override
+        void terminate() {
+            this.board.sweep(Player.A);
+            this.board.sweep(Player.B);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package net.alexmiranda.kalah;
+
+final class ScalarBatchEngine implements BatchEngine {
+    static final ScalarBatchEngine INSTANCE = new ScalarBatchEngine();
+
+    private ScalarBatchEngine() {}
+
+    @Override
+    public int play(GameBatch batch, int start, int end) {
+        for (int g = start; g < end; g++) {
+            if (batch.from[g] >= 0) {
+                this.play(batch, g);
+            }
+        }
+        return end;
+    }
+
+    private void play(GameBatch batch, int g) {
+        int[] pits = batch.pits;
+        int size = batch.size;
+        int houses = batch.houses;
+        int length = batch.length;
+        int lap = length - 1;
+        int player = batch.players[g];
+
+        // ranks count pits in sowing order from the mover's first house, so
+        // the opponent store always has the one rank (lap) that is skipped
+        int first = player == 0 ? 0 : houses + 1;
+        int origin = batch.from[g] - first;
+        int laps = batch.laps[g];
+        int left = batch.left[g];
+        for (int rank = 0; rank < lap; rank++) {
+            int pit = first + rank < length ? first + rank : first + rank - length;
+            int distance = rank > origin ? rank - origin : rank - origin + lap;
+            pits[pit * size + g] += laps + (distance <= left ? 1 : 0);
+        }
+
+        int lastRank = origin + left < lap ? origin + left : origin + left - lap;
+        int last = first + lastRank < length ? first + lastRank : first + lastRank - length;
+        int store = first + houses;
+        boolean over = false;
+        if (lastRank < houses && pits[last * size + g] == 1) {
+            int opposite = length - 2 - last;
+            pits[store * size + g] += 1 + pits[opposite * size + g];
+            pits[last * size + g] = 0;
+            pits[opposite * size + g] = 0;
+            over = isRowEmpty(batch, g, 0) || isRowEmpty(batch, g, houses + 1);
+        } else if (lastRank >= houses) {
+            over = isRowEmpty(batch, g, first);
+        }
+
+        if (over) {
+            sweep(batch, g, 0);
+            sweep(batch, g, houses + 1);
+            batch.finished[g] = 1;
+        } else if (lastRank != houses) {
+            batch.players[g] = 1 - player;
+        }
+    }
+
+    private static boolean isRowEmpty(GameBatch batch, int g, int first) {
+        for (int pit = first; pit < first + batch.houses; pit++) {
+            if (batch.pits[pit * batch.size + g] != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void sweep(GameBatch batch, int g, int first) {
+        int seeds = 0;
+        for (int pit = first; pit < first + batch.houses; pit++) {
+            seeds += batch.pits[pit * batch.size + g];
+            batch.pits[pit * batch.size + g] = 0;
+        }
+        batch.pits[(first + batch.houses) * batch.size + g] += seeds;
+    }
+}
@@ -0,0 +1,81 @@
+package net.alexmiranda.kalah;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// The threads of one parallel search report here. The main thread is the
+// one that always completes depth 1, so once it is done the helpers are
+// stopped and the deepest result any thread completed is the answer. Only
+// a failure of the main thread fails the search; a helper that fails just
+// has no result.
+public final class SearchHandle {
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+    private final CompletableFuture<SearchResult> result = new CompletableFuture<>();
+    private final SearchResult[] results;
+    private int pending;
+    private Throwable error;
+
+    SearchHandle(int threads) {
+        this.results = new SearchResult[threads];
+        this.pending = threads;
+    }
+
+    public SearchResult join() {
+        try {
+            return this.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public CompletableFuture<SearchResult> toCompletableFuture() {
+        return this.result.copy();
+    }
+
+    // stops every thread at its next clock check; join then returns the best
+    // move found so far
+    public void cancel() {
+        this.cancelled.set(true);
+    }
+
+    public boolean isDone() {
+        return this.result.isDone();
+    }
+
+    boolean isCancelled() {
+        return this.cancelled.get();
+    }
+
+    AtomicBoolean cancelled() {
+        return this.cancelled;
+    }
+
+    synchronized void complete(int helper, SearchResult result, Throwable error) {
+        this.results[helper] = result;
+        if (error != null && helper == 0) {
+            this.error = error instanceof CompletionException ? error.getCause() : error;
+        }
+        if (helper == 0) {
+            this.cancel();
+        }
+        if (--this.pending > 0) {
+            return;
+        }
+
+        if (this.error != null) {
+            this.result.completeExceptionally(this.error);
+            return;
+        }
+        SearchResult best = this.results[0];
+        for (var other : this.results) {
+            if (other != null && (best == null || other.depth() > best.depth())) {
+                best = other;
+            }
+        }
+        this.result.complete(best);
+    }
+}
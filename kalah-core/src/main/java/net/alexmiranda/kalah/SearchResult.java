@@ -0,0 +1,44 @@
+package net.alexmiranda.kalah;
+
+public final class SearchResult {
+    private final int houses;
+    private final int[] principalVariation; // pits, starting with the best move
+    private final int score;
+    private final int depth;
+    private final long nodes;
+
+    SearchResult(int houses, int[] principalVariation, int score, int depth, long nodes) {
+        this.houses = houses;
+        this.principalVariation = principalVariation;
+        this.score = score;
+        this.depth = depth;
+        this.nodes = nodes;
+    }
+
+    public int move() {
+        return this.principalVariation[0];
+    }
+
+    // n of the best move's house, counted from the mover's first house
+    public int house() {
+        int pit = this.move();
+        return pit < this.houses ? pit + 1 : pit - this.houses;
+    }
+
+    // seeds the player to move ends up ahead by, as far as the search could see
+    public int score() {
+        return this.score;
+    }
+
+    public int depth() {
+        return this.depth;
+    }
+
+    public long nodes() {
+        return this.nodes;
+    }
+
+    public int[] principalVariation() {
+        return this.principalVariation.clone();
+    }
+}
@@ -0,0 +1,238 @@
+package net.alexmiranda.kalah;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+// Iterative-deepening alpha-beta over a private copy of the game, made and
+// unmade with the undo log. Scores are store margins for the player to move.
+// Not thread-safe: use one Searcher per thread.
+public final class Searcher {
+    static final int MAX_DEPTH = 64;
+
+    private static final int DEFAULT_TABLE_BITS = 18;
+    private static final int INFINITY = Integer.MAX_VALUE;
+    private static final int CHECK_EVERY = 1 << 10; // nodes between clock reads
+    private static final int EXTRA_TURN = Integer.MAX_VALUE - 1;
+
+    private final TranspositionTable table;
+    private final LongSupplier clock; // nanoTime, or a fake one in tests
+    private final int[][] moves = new int[MAX_DEPTH][]; // house numbers, best first
+    private final int[][] priorities = new int[MAX_DEPTH][];
+    private final MoveAnalysis[] analyses = new MoveAnalysis[MAX_DEPTH];
+    private final int[][] pv = new int[MAX_DEPTH + 1][MAX_DEPTH];
+    private final int[] pvLength = new int[MAX_DEPTH + 1];
+    private Game game;
+    private int helper; // 0 for a search of its own, n for the nth Lazy SMP helper
+    private AtomicBoolean cancelled;
+    private boolean clocked; // whether this iteration can be abandoned at the deadline
+    private long deadline;
+    private long nodes;
+    private boolean stopped;
+
+    public Searcher() {
+        this(DEFAULT_TABLE_BITS);
+    }
+
+    // the table holds 2^tableBits entries of 16 bytes each
+    public Searcher(int tableBits) {
+        this(new TranspositionTable(tableBits));
+    }
+
+    Searcher(TranspositionTable table) {
+        this(table, System::nanoTime);
+    }
+
+    Searcher(TranspositionTable table, LongSupplier clock) {
+        this.table = table;
+        this.clock = clock;
+    }
+
+    public SearchResult search(Game game, Duration limit) {
+        Preconditions.check(limit != null && !limit.isNegative(), "limit");
+        return this.search(game, true, Deadlines.after(this.clock, limit), MAX_DEPTH, 0, null);
+    }
+
+    public SearchResult search(Game game, int depth) {
+        Preconditions.check(depth > 0 && depth <= MAX_DEPTH, "depth");
+        return this.search(game, false, 0, depth, 0, null);
+    }
+
+    public void clear() {
+        this.table.clear();
+    }
+
+    // one thread of a parallel search: helpers start at staggered depths and
+    // try quiet moves in rotated orders, so that between them they fill the
+    // shared table with different parts of the tree; returns null when
+    // stopped before completing any depth
+    SearchResult search(Game game, long deadline, int helper, AtomicBoolean cancelled) {
+        return this.search(game, true, deadline, MAX_DEPTH, helper, cancelled);
+    }
+
+    private SearchResult search(Game game, boolean timed, long deadline, int maxDepth, int helper, AtomicBoolean cancelled) {
+        Preconditions.check(game != null, "game");
+        if (game.isOver()) {
+            throw GameOverException.INSTANCE;
+        }
+        this.prepare(game);
+        this.deadline = deadline;
+        this.helper = helper;
+        this.cancelled = cancelled;
+        this.nodes = 0;
+        this.stopped = false;
+
+        int[] best = null;
+        int score = 0;
+        int depth = 0;
+        // depth 1 always completes, so there is a move even if the deadline
+        // has already passed; later iterations are abandoned at the deadline
+        for (int d = 1 + helper % 2; d <= maxDepth; d++) {
+            this.clocked = timed && (d > 1 || helper > 0);
+            int value = this.search(d, 0, -INFINITY, INFINITY);
+            if (this.stopped) {
+                break;
+            }
+            best = Arrays.copyOf(this.pv[0], this.pvLength[0]);
+            score = value;
+            depth = d;
+            if (timed && this.clock.getAsLong() - deadline >= 0 || this.isCancelled()) {
+                break;
+            }
+        }
+        return best == null ? null : new SearchResult(game.houses(), best, score, depth, this.nodes);
+    }
+
+    private int search(int depth, int ply, int alpha, int beta) {
+        this.pvLength[ply] = 0;
+        this.nodes++;
+        if (this.clocked && this.nodes % CHECK_EVERY == 0) {
+            this.stopped = this.clock.getAsLong() - this.deadline >= 0 || this.isCancelled();
+        }
+        if (this.stopped) {
+            return 0;
+        }
+        var game = this.game;
+        var player = game.player();
+        if (depth == 0) {
+            return margin(game, player);
+        }
+
+        long key = game.positionHash();
+        long entry = this.table.probe(key);
+        int hashMove = 0;
+        if (entry != 0) {
+            hashMove = TranspositionTable.house(entry);
+            if (ply > 0 && TranspositionTable.depth(entry) >= depth) {
+                int value = TranspositionTable.score(entry);
+                int bound = TranspositionTable.bound(entry);
+                if (bound == TranspositionTable.EXACT
+                        || bound == TranspositionTable.LOWER && value >= beta
+                        || bound == TranspositionTable.UPPER && value <= alpha) {
+                    return value;
+                }
+            }
+        }
+
+        int count = this.orderMoves(ply, hashMove);
+        int[] moves = this.moves[ply];
+        int originalAlpha = alpha;
+        int bestScore = -INFINITY;
+        int bestMove = 0;
+        for (int i = 0; i < count; i++) {
+            int n = moves[i];
+            game.play(game.houseIndex(player, n));
+            int value;
+            if (game.isOver()) {
+                this.pvLength[ply + 1] = 0;
+                value = margin(game, player);
+            } else if (game.player() == player) {
+                // an extra turn: the same side moves again, so nothing is negated
+                value = this.search(depth - 1, ply + 1, alpha, beta);
+            } else {
+                value = -this.search(depth - 1, ply + 1, -beta, -alpha);
+            }
+            game.undo();
+            if (this.stopped) {
+                return 0;
+            }
+
+            if (value > bestScore) {
+                bestScore = value;
+                bestMove = n;
+                this.updatePv(ply, game.houseIndex(player, n));
+                if (value > alpha) {
+                    alpha = value;
+                    if (alpha >= beta) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        int bound = bestScore <= originalAlpha ? TranspositionTable.UPPER
+            : bestScore >= beta ? TranspositionTable.LOWER
+            : TranspositionTable.EXACT;
+        this.table.store(key, bestMove, depth, bound, bestScore);
+        return bestScore;
+    }
+
+    // fills moves[ply] with the legal houses: the table's move, then extra
+    // turns nearest the store first, then captures by size, then the rest
+    private int orderMoves(int ply, int hashMove) {
+        var analysis = this.game.analyzeMoves(this.analyses[ply]);
+        int[] moves = this.moves[ply];
+        int[] priorities = this.priorities[ply];
+        int houses = analysis.houses();
+        int count = 0;
+        for (int k = 0; k < houses; k++) {
+            int n = (k + this.helper) % houses + 1; // the sort is stable, so this rotates ties
+            if (!analysis.isLegal(n)) {
+                continue;
+            }
+            int priority = n == hashMove ? INFINITY
+                : analysis.isExtraTurn(n) ? EXTRA_TURN - houses + n
+                : analysis.captured(n);
+            int i = count++;
+            while (i > 0 && priorities[i - 1] < priority) {
+                moves[i] = moves[i - 1];
+                priorities[i] = priorities[i - 1];
+                i--;
+            }
+            moves[i] = n;
+            priorities[i] = priority;
+        }
+        return count;
+    }
+
+    private void updatePv(int ply, int pit) {
+        int[] line = this.pv[ply];
+        int length = Math.min(this.pvLength[ply + 1], MAX_DEPTH - 1);
+        line[0] = pit;
+        System.arraycopy(this.pv[ply + 1], 0, line, 1, length);
+        this.pvLength[ply] = length + 1;
+    }
+
+    private boolean isCancelled() {
+        return this.cancelled != null && this.cancelled.get();
+    }
+
+    private void prepare(Game game) {
+        if (this.game == null || this.game.houses() != game.houses()) {
+            this.game = game.copy();
+            this.game.recordUndo(true);
+            for (int ply = 0; ply < MAX_DEPTH; ply++) {
+                this.moves[ply] = new int[game.houses()];
+                this.priorities[ply] = new int[game.houses()];
+                this.analyses[ply] = new MoveAnalysis(game.houses());
+            }
+        } else {
+            this.game.copyFrom(game);
+        }
+    }
+
+    private static int margin(Game game, Player player) {
+        return game.seedsAt(game.storeIndex(player)) - game.seedsAt(game.storeIndex(player.opponent()));
+    }
+}
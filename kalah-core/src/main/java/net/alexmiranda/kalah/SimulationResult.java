@@ -0,0 +1,112 @@
+package net.alexmiranda.kalah;
+
+import java.util.Arrays;
+
+public final class SimulationResult {
+    private final int houses;
+    private final long games;
+    private final long moves;
+    private final long extraTurns;
+    private final long captures;
+    private final long[] outcomes;
+    private final long[][] firstMoves;
+    private final long[] lengths;
+
+    SimulationResult(Tally tally) {
+        this.houses = tally.houses;
+        this.games = tally.games;
+        this.moves = tally.moves;
+        this.extraTurns = tally.extraTurns;
+        this.captures = tally.captures;
+        this.outcomes = tally.outcomes.clone();
+        this.firstMoves = new long[tally.houses][];
+        for (int n = 0; n < tally.houses; n++) {
+            this.firstMoves[n] = tally.firstMoves[n].clone();
+        }
+        int longest = tally.lengths.length - 1;
+        while (longest > 0 && tally.lengths[longest] == 0) {
+            longest--;
+        }
+        this.lengths = Arrays.copyOf(tally.lengths, longest + 1);
+    }
+
+    public long games() {
+        return this.games;
+    }
+
+    public long moves() {
+        return this.moves;
+    }
+
+    public long wins(Player player) {
+        Preconditions.check(player != null, "player");
+        return this.outcomes[player.ordinal()];
+    }
+
+    public long draws() {
+        return this.outcomes[Tally.DRAW];
+    }
+
+    public double winRate(Player player) {
+        return ratio(this.wins(player), this.games);
+    }
+
+    public double drawRate() {
+        return ratio(this.draws(), this.games);
+    }
+
+    public long firstMoveGames(int n) {
+        long[] outcomes = this.firstMove(n);
+        return outcomes[0] + outcomes[1] + outcomes[2];
+    }
+
+    public long firstMoveWins(int n, Player player) {
+        Preconditions.check(player != null, "player");
+        return this.firstMove(n)[player.ordinal()];
+    }
+
+    public long firstMoveDraws(int n) {
+        return this.firstMove(n)[Tally.DRAW];
+    }
+
+    public double firstMoveWinRate(int n, Player player) {
+        return ratio(this.firstMoveWins(n, player), this.firstMoveGames(n));
+    }
+
+    public double firstMoveDrawRate(int n) {
+        return ratio(this.firstMoveDraws(n), this.firstMoveGames(n));
+    }
+
+    public long[] lengthHistogram() {
+        return this.lengths.clone();
+    }
+
+    public int longestGame() {
+        return this.games == 0 ? 0 : this.lengths.length - 1;
+    }
+
+    public double meanLength() {
+        return ratio(this.moves, this.games);
+    }
+
+    public double extraTurnRate() {
+        return ratio(this.extraTurns, this.moves);
+    }
+
+    public double captureRate() {
+        return ratio(this.captures, this.moves);
+    }
+
+    public int houses() {
+        return this.houses;
+    }
+
+    private long[] firstMove(int n) {
+        Preconditions.check(n > 0 && n <= this.houses, "n");
+        return this.firstMoves[n - 1];
+    }
+
+    private static double ratio(long count, long total) {
+        return total == 0 ? 0.0 : (double) count / total;
+    }
+}
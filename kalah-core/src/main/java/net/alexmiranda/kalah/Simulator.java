@@ -0,0 +1,131 @@
+package net.alexmiranda.kalah;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public final class Simulator {
+    private static final int LEAF_GAMES = 512; // fixed so results only depend on the seed
+
+    private final Game start; // never mutated, only copied from
+
+    public Simulator(int houses, int seeds) {
+        this.start = new Game(houses, seeds);
+    }
+
+    public Simulator(GameSnapshot start) {
+        Preconditions.check(start != null, "start");
+        this.start = start.toGame();
+    }
+
+    public SimulationResult run(long games, long seed) {
+        return this.run(games, seed, ForkJoinPool.commonPool());
+    }
+
+    public SimulationResult run(long games, long seed, ForkJoinPool pool) {
+        Preconditions.check(games >= 0, "games");
+        Preconditions.check(pool != null, "pool");
+        // one game per worker thread, dropped with the run rather than kept by the thread
+        var scratch = new ConcurrentHashMap<Thread, Scratch>();
+        var tally = pool.invoke(new Playouts(this.start, scratch, games, new SplittableRandom(seed)));
+        return new SimulationResult(tally);
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 3 || args.length > 4) {
+            System.err.println("usage: Simulator <houses> <seeds> <games> [seed]");
+            System.exit(2);
+        }
+        int houses = Integer.parseInt(args[0]);
+        int seeds = Integer.parseInt(args[1]);
+        long games = Long.parseLong(args[2]);
+        long seed = args.length == 4 ? Long.parseLong(args[3]) : System.nanoTime();
+
+        long started = System.nanoTime();
+        var result = new Simulator(houses, seeds).run(games, seed);
+        double seconds = (System.nanoTime() - started) / 1e9;
+        report(System.out, result, seed, seconds);
+    }
+
+    static void report(PrintStream out, SimulationResult result, long seed, double seconds) {
+        out.printf("%d games in %.2fs (%.0f games/s), seed %d%n", result.games(), seconds, result.games() / seconds, seed);
+        out.printf("A wins %.2f%%, B wins %.2f%%, draws %.2f%%%n",
+            100 * result.winRate(Player.A), 100 * result.winRate(Player.B), 100 * result.drawRate());
+        out.printf("mean length %.2f moves, longest %d, extra turns %.2f%%, captures %.2f%%%n",
+            result.meanLength(), result.longestGame(), 100 * result.extraTurnRate(), 100 * result.captureRate());
+        out.println("first move      games   A wins   B wins    draws");
+        for (int n = 1; n <= result.houses(); n++) {
+            out.printf("%10d %10d %7.2f%% %7.2f%% %7.2f%%%n", n, result.firstMoveGames(n),
+                100 * result.firstMoveWinRate(n, Player.A), 100 * result.firstMoveWinRate(n, Player.B),
+                100 * result.firstMoveDrawRate(n));
+        }
+    }
+
+    private record Scratch(Game game, int[] moves) {
+        Scratch(Game start) {
+            this(start.copy(), new int[start.houses()]);
+        }
+    }
+
+    private static final class Playouts extends RecursiveTask<Tally> {
+        private final Game start;
+        private final Map<Thread, Scratch> scratch;
+        private final long games;
+        private final SplittableRandom random;
+
+        Playouts(Game start, Map<Thread, Scratch> scratch, long games, SplittableRandom random) {
+            this.start = start;
+            this.scratch = scratch;
+            this.games = games;
+            this.random = random;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (this.games <= LEAF_GAMES) {
+                return this.play();
+            }
+            long half = this.games / 2;
+            var left = new Playouts(this.start, this.scratch, half, this.random.split());
+            var right = new Playouts(this.start, this.scratch, this.games - half, this.random);
+            left.fork();
+            var tally = right.compute();
+            return tally.merge(left.join());
+        }
+
+        private Tally play() {
+            var tally = new Tally(this.start.houses());
+            // a leaf never joins, so no other leaf runs on this thread meanwhile
+            var scratch = this.scratch.computeIfAbsent(Thread.currentThread(), thread -> new Scratch(this.start));
+            var game = scratch.game();
+            var moves = scratch.moves();
+            for (long i = 0; i < this.games; i++) {
+                game.copyFrom(this.start);
+                int firstMove = 0;
+                int length = 0;
+                int count;
+                while (!game.isOver() && (count = game.legalMoves(moves)) > 0) {
+                    int pit = moves[this.random.nextInt(count)];
+                    var player = game.player();
+                    if (length == 0) {
+                        firstMove = pit - game.houseIndex(player, 1) + 1;
+                    }
+                    game.play(pit);
+                    length++;
+                    if (game.captured()) {
+                        tally.captures++;
+                    }
+                    if (!game.isOver() && game.player() == player) {
+                        tally.extraTurns++;
+                    }
+                }
+                tally.moves += length;
+                tally.record(firstMove, length, game.winner());
+            }
+            return tally;
+        }
+    }
+}
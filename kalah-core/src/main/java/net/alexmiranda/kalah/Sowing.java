@@ -0,0 +1,39 @@
+package net.alexmiranda.kalah;
+
+// The boards that sow a partial lap pit by pit. A partial lap sows three runs
+// at most: the mover's houses after the pit and the mover's store, then the
+// opponent's houses, then the mover's houses again from the first. It is
+// shorter than a lap, so the opponent store is never reached.
+interface Sowing {
+    // adds a seed to every pit in [from, to), a run of one owner's houses
+    // that may end with that owner's store
+    void sowRun(int from, int to);
+
+    // sows left seeds after pit and returns the pit of the last one
+    static int sowPartialLap(Sowing board, int houses, int pit, Player player, int left) {
+        int first = player == Player.A ? 0 : houses + 1;
+        int store = first + houses;
+        int opponent = player == Player.A ? houses + 1 : 0;
+        int last = pit;
+
+        int n = Math.min(left, store - pit);
+        if (n > 0) {
+            board.sowRun(pit + 1, pit + 1 + n);
+            last = pit + n;
+            left -= n;
+        }
+
+        n = Math.min(left, houses);
+        if (n > 0) {
+            board.sowRun(opponent, opponent + n);
+            last = opponent + n - 1;
+            left -= n;
+        }
+
+        if (left > 0) {
+            board.sowRun(first, first + left);
+            last = first + left - 1;
+        }
+        return last;
+    }
+}
@@ -0,0 +1,14 @@
+package net.alexmiranda.kalah;
+
+class SowingOpponentRow implements GameState {
+    @Override
+    public void endTurn(Turn game, int pit) {
+        if (game.checkGameOver()) {
+            game.terminate();
+            game.setState(FINISHED);
+        } else {
+            game.switchPlayer();
+            game.setState(WAITING);
+        }
+    }
+}
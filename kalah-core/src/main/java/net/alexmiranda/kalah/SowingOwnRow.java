@@ -0,0 +1,39 @@
+package net.alexmiranda.kalah;
+
+class SowingOwnRow implements GameState {
+    @Override
+    public void endTurn(Turn game, int pit) {
+        if (game.isStore(pit)) {
+            this.resume(game, true, false);
+            return;
+        }
+        
+        if (game.holdsOneSeed(pit)) {
+            this.captureAndResume(game, pit);
+            return;
+        }
+        
+        this.waitForNextPlayer(game);
+    }
+
+    private void captureAndResume(Turn game, int pit) {
+        game.captureIntoStore(pit);
+        this.resume(game, false, true);
+    }
+
+    private void resume(Turn game, boolean samePlayer, boolean checkBothPlayers) {
+        if (game.checkGameOver(checkBothPlayers)) {
+            game.terminate();
+            game.setState(FINISHED);
+        } else if (samePlayer) {
+            game.setState(WAITING);
+        } else if (!samePlayer) {
+            this.waitForNextPlayer(game);
+        }
+    }
+
+    private void waitForNextPlayer(Turn game) {
+        game.switchPlayer();
+        game.setState(WAITING);
+    }
+}
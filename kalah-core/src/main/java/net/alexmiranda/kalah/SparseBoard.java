@@ -0,0 +1,285 @@
+package net.alexmiranda.kalah;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+final class SparseBoard implements Sowing {
+    private static final int MIN_CAPACITY = 8;
+
+    private final int houses;
+    private final int length;
+    private final int[] stores = new int[2];
+    private final int[] rows = new int[2]; // seeds in each player's houses
+
+    // non-empty houses only, sorted by pit; runs are merged in place, and
+    // the arrays shrink as the board empties
+    private int[] pits;
+    private int[] seeds;
+    private int size;
+
+    private SparseBoard(int houses, int capacity) {
+        this.houses = houses;
+        this.length = houses * 2 + 2;
+        this.pits = new int[capacity];
+        this.seeds = new int[capacity];
+    }
+
+    static SparseBoard of(int houses, int[] pits, int[] seeds) {
+        Preconditions.check(houses > 0, "houses");
+        Preconditions.check(pits != null && seeds != null && pits.length == seeds.length, "pits");
+        var order = new long[pits.length];
+        int nonEmpty = 0;
+        for (int i = 0; i < pits.length; i++) {
+            Preconditions.check(pits[i] >= 0 && pits[i] < houses * 2 + 2, "pits");
+            Preconditions.check(seeds[i] >= 0, "seeds");
+            order[i] = (long) pits[i] << 32 | i;
+            nonEmpty += seeds[i] > 0 ? 1 : 0;
+        }
+        Arrays.sort(order);
+
+        var board = new SparseBoard(houses, Math.max(nonEmpty, MIN_CAPACITY));
+        for (int k = 0; k < order.length; k++) {
+            int pit = (int) (order[k] >>> 32);
+            int i = (int) order[k];
+            Preconditions.check(k == 0 || pit != (int) (order[k - 1] >>> 32), "pits");
+            if (board.isStore(pit)) {
+                board.stores[board.owner(pit).ordinal()] = seeds[i];
+            } else if (seeds[i] > 0) {
+                board.pits[board.size] = pit;
+                board.seeds[board.size++] = seeds[i];
+                board.rows[board.owner(pit).ordinal()] += seeds[i];
+            }
+        }
+        return board;
+    }
+
+    static SparseBoard filled(int houses, int seeds) {
+        var board = new SparseBoard(houses, houses * 2);
+        for (int n = 0; n < houses; n++) {
+            board.pits[n] = n;
+            board.pits[houses + n] = houses + 1 + n;
+        }
+        Arrays.fill(board.seeds, seeds);
+        board.size = houses * 2;
+        board.rows[0] = houses * seeds;
+        board.rows[1] = houses * seeds;
+        return board;
+    }
+
+    int houses() {
+        return this.houses;
+    }
+
+    int length() {
+        return this.length;
+    }
+
+    int nonEmptyHouses() {
+        return this.size;
+    }
+
+    int seeds(int pit) {
+        if (this.isStore(pit)) {
+            return this.stores[this.owner(pit).ordinal()];
+        }
+        int i = Arrays.binarySearch(this.pits, 0, this.size, pit);
+        return i >= 0 ? this.seeds[i] : 0;
+    }
+
+    int nonEmptyPits() {
+        return this.size + (this.stores[0] > 0 ? 1 : 0) + (this.stores[1] > 0 ? 1 : 0);
+    }
+
+    // the first pit from the given one on that holds seeds, or -1 if none does
+    int nextNonEmpty(int from) {
+        int i = lowerBound(this.pits, this.size, from);
+        int next = i < this.size ? this.pits[i] : -1;
+        int store = this.store(Player.A);
+        if (this.stores[Player.A.ordinal()] > 0 && from <= store && (next < 0 || store < next)) {
+            return store;
+        }
+        store = this.store(Player.B);
+        if (this.stores[Player.B.ordinal()] > 0 && from <= store && next < 0) {
+            return store;
+        }
+        return next;
+    }
+
+    void forEachNonEmpty(IntBinaryConsumer consumer) {
+        int i = 0;
+        for (Player player : Player.values()) {
+            int store = this.store(player);
+            for (; i < this.size && this.pits[i] < store; i++) {
+                consumer.accept(this.pits[i], this.seeds[i]);
+            }
+            if (this.stores[player.ordinal()] > 0) {
+                consumer.accept(store, this.stores[player.ordinal()]);
+            }
+        }
+    }
+
+    int house(Player player, int n) {
+        return switch (player) {
+            case A -> n - 1;
+            case B -> this.houses + n;
+        };
+    }
+
+    int store(Player player) {
+        return switch (player) {
+            case A -> this.houses;
+            case B -> this.length - 1;
+        };
+    }
+
+    Player owner(int pit) {
+        return pit <= this.houses ? Player.A : Player.B;
+    }
+
+    boolean isStore(int pit) {
+        return pit == this.houses || pit == this.length - 1;
+    }
+
+    int opposite(int pit) {
+        return this.length - 2 - pit;
+    }
+
+    MoveResult check(int pit, Player player) {
+        if (this.isStore(pit)) {
+            return MoveResult.STORE;
+        } else if (this.seeds(pit) == 0) {
+            return MoveResult.EMPTY_HOUSE;
+        } else if (player != this.owner(pit)) {
+            return MoveResult.NOT_YOUR_HOUSE;
+        }
+        return MoveResult.OK;
+    }
+
+    int yield(int pit, Player player) {
+        int seeds = this.remove(pit);
+        this.rows[player.ordinal()] -= seeds;
+        return seeds;
+    }
+
+    int sowFrom(int pit, Player player, int seeds) {
+        int lap = this.length - 1;
+        int laps = seeds / lap;
+        if (laps > 0) {
+            this.addRange(0, this.houses, laps);
+            this.addRange(this.houses + 1, this.length - 1, laps);
+            this.stores[player.ordinal()] += laps;
+            this.rows[0] += this.houses * laps;
+            this.rows[1] += this.houses * laps;
+        }
+        return Sowing.sowPartialLap(this, this.houses, pit, player, seeds - laps * lap);
+    }
+
+    @Override
+    public void sowRun(int from, int to) {
+        int owner = this.owner(from).ordinal();
+        if (this.isStore(to - 1)) {
+            this.stores[owner]++;
+            to--;
+        }
+        if (to > from) {
+            this.addRange(from, to, 1);
+            this.rows[owner] += to - from;
+        }
+    }
+
+    void captureIntoStore(int pit, Player player) {
+        int own = this.remove(pit);
+        int opposite = this.remove(this.opposite(pit));
+        this.rows[player.ordinal()] -= own;
+        this.rows[player.opponent().ordinal()] -= opposite;
+        this.stores[player.ordinal()] += own + opposite;
+    }
+
+    void sweep(Player player) {
+        int first = this.house(player, 1);
+        int last = first + this.houses;
+        int kept = 0;
+        for (int i = 0; i < this.size; i++) {
+            if (this.pits[i] < first || this.pits[i] >= last) {
+                this.pits[kept] = this.pits[i];
+                this.seeds[kept++] = this.seeds[i];
+            }
+        }
+        this.size = kept;
+        this.shrink();
+        this.stores[player.ordinal()] += this.rows[player.ordinal()];
+        this.rows[player.ordinal()] = 0;
+    }
+
+    boolean isRowEmpty(Player player) {
+        return this.rows[player.ordinal()] == 0;
+    }
+
+    Optional<Player> leader() {
+        int a = this.stores[Player.A.ordinal()];
+        int b = this.stores[Player.B.ordinal()];
+        if (a > b) {
+            return Optional.of(Player.A);
+        } else if (b > a) {
+            return Optional.of(Player.B);
+        }
+        return Optional.empty();
+    }
+
+    private int remove(int pit) {
+        int i = Arrays.binarySearch(this.pits, 0, this.size, pit);
+        if (i < 0) {
+            return 0;
+        }
+        int seeds = this.seeds[i];
+        System.arraycopy(this.pits, i + 1, this.pits, i, this.size - i - 1);
+        System.arraycopy(this.seeds, i + 1, this.seeds, i, this.size - i - 1);
+        this.size--;
+        this.shrink();
+        return seeds;
+    }
+
+    // adds seeds to every house in [from, to), merging the run into the
+    // index from the back so that nothing has to be copied aside
+    private void addRange(int from, int to, int amount) {
+        int lo = lowerBound(this.pits, this.size, from);
+        int hi = lowerBound(this.pits, this.size, to);
+        int added = (to - from) - (hi - lo);
+        if (this.size + added > this.pits.length) {
+            int capacity = Math.min(Math.max(this.size + added, this.pits.length * 2), this.houses * 2);
+            this.pits = Arrays.copyOf(this.pits, capacity);
+            this.seeds = Arrays.copyOf(this.seeds, capacity);
+        }
+
+        int[] pits = this.pits;
+        int[] seeds = this.seeds;
+        System.arraycopy(pits, hi, pits, hi + added, this.size - hi);
+        System.arraycopy(seeds, hi, seeds, hi + added, this.size - hi);
+        int i = hi - 1;
+        int k = hi + added - 1;
+        for (int pit = to - 1; pit >= from; pit--, k--) {
+            pits[k] = pit;
+            if (i >= lo && pits[i] == pit) {
+                seeds[k] = seeds[i--] + amount;
+            } else {
+                seeds[k] = amount;
+            }
+        }
+        this.size += added;
+    }
+
+    // trims the arrays once they are mostly unused, keeping room to grow
+    private void shrink() {
+        int capacity = this.pits.length;
+        if (capacity > MIN_CAPACITY && this.size < capacity / 4) {
+            capacity = Math.max(this.size * 2, MIN_CAPACITY);
+            this.pits = Arrays.copyOf(this.pits, capacity);
+            this.seeds = Arrays.copyOf(this.seeds, capacity);
+        }
+    }
+
+    private static int lowerBound(int[] pits, int size, int pit) {
+        int i = Arrays.binarySearch(pits, 0, size, pit);
+        return i >= 0 ? i : -i - 1;
+    }
+}
@@ -0,0 +1,249 @@
+package net.alexmiranda.kalah;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+
+public class SparseGame extends AbstractGame {
+    private final int houses;
+    private final int seeds;
+    private final SparseBoard board;
+    private final Map<String, Integer> pits = new Pits(true);
+    private final Map<String, Integer> nonEmptyPits = new Pits(false);
+
+    public SparseGame(int houses, int seeds) {
+        Preconditions.check(houses > 0 && houses <= (Integer.MAX_VALUE - 2) / 2, "houses");
+        Preconditions.check(seeds > 0, "seeds");
+        Preconditions.check(houses > 1 || seeds > 1, "seeds");
+        Preconditions.check(seeds <= Integer.MAX_VALUE / 2 / houses, "seeds");
+        this.houses = houses;
+        this.seeds = seeds;
+        this.board = SparseBoard.filled(houses, seeds);
+    }
+
+    SparseGame(int houses, int[] pits, int[] seeds, Player player) {
+        Preconditions.check(player != null, "player");
+        this.board = SparseBoard.of(houses, pits, seeds);
+        this.houses = houses;
+
+        long totalSeeds = 0;
+        for (int s : seeds) {
+            totalSeeds += s;
+        }
+        // nearly empty wide boards are the point, so totals need not be a multiple of the houses
+        Preconditions.check(totalSeeds > 0 && totalSeeds <= Integer.MAX_VALUE, "seeds");
+        this.seeds = (int) (totalSeeds / (houses * 2L));
+        this.player = player;
+        if (this.checkGameOver(true)) {
+            this.terminate();
+            this.state = GameState.FINISHED;
+        }
+    }
+
+    public int seedsAt(int pit) {
+        this.checkPosition(pit);
+        return this.board.seeds(pit);
+    }
+
+    public int houseIndex(Player player, int n) {
+        Preconditions.check(player != null, "player");
+        Preconditions.check(n > 0 && n <= this.houses, "n");
+        return this.board.house(player, n);
+    }
+
+    public int storeIndex(Player player) {
+        Preconditions.check(player != null, "player");
+        return this.board.store(player);
+    }
+
+    public Map<String, Integer> pits() {
+        return this.pits;
+    }
+
+    public void forEachPit(IntBinaryConsumer consumer) {
+        Preconditions.check(consumer != null, "consumer");
+        for (int pit = 0; pit < this.board.length(); pit++) {
+            consumer.accept(pit, this.board.seeds(pit));
+        }
+    }
+
+    // only the pits that hold seeds, as a live view, for walking wide boards
+    public Map<String, Integer> nonEmptyPits() {
+        return this.nonEmptyPits;
+    }
+
+    public void forEachNonEmptyPit(IntBinaryConsumer consumer) {
+        Preconditions.check(consumer != null, "consumer");
+        this.board.forEachNonEmpty(consumer);
+    }
+
+    public int nonEmptyHouses() {
+        return this.board.nonEmptyHouses();
+    }
+
+    public Optional<Player> winner() {
+        return this.state == GameState.FINISHED ? this.board.leader() : Optional.empty();
+    }
+
+    public int houses() {
+        return this.houses;
+    }
+
+    public int seeds() {
+        return this.seeds;
+    }
+
+    @Override
+    int length() {
+        return this.board.length();
+    }
+
+    @Override
+    MoveResult check(int pit) {
+        return this.board.check(pit, this.player);
+    }
+
+    // whole laps become range updates on the sparse pits, so wide boards sow without touching every house
+    @Override
+    void apply(int pit) {
+        int seeds = this.board.yield(pit, this.player);
+        int last = this.board.sowFrom(pit, this.player, seeds);
+        this.state = this.board.owner(last) == this.player
+            ? GameState.SOWING_OWN_ROW
+            : GameState.SOWING_OPPONENT_ROW;
+        this.state.endTurn(this, last);
+    }
+
+    @Override
+    boolean isStore(int pit) {
+        return this.board.isStore(pit);
+    }
+
+    @Override
+    boolean holdsOneSeed(int pit) {
+        return this.board.seeds(pit) == 1;
+    }
+
+    @Override
+    void captureIntoStore(int pit) {
+        this.board.captureIntoStore(pit, this.player);
+    }
+
+    @Override
+    boolean isRowEmpty(Player player) {
+        return this.board.isRowEmpty(player);
+    }
+
+    @Override
+    void terminate() {
+        this.board.sweep(Player.A);
+        this.board.sweep(Player.B);
+    }
+
+    // names are parsed rather than looked up, so no per-pit tables are built
+    private String name(int pit) {
+        var owner = this.board.owner(pit);
+        if (this.board.isStore(pit)) {
+            return owner.store();
+        }
+        return owner.house(pit - this.board.house(owner, 1) + 1);
+    }
+
+    @Override
+    int indexOf(String position) {
+        if (position == null || position.length() < 2) {
+            return -1;
+        } else if (position.equals("SA") || position.equals("SB")) {
+            return this.board.store(position.charAt(1) == 'A' ? Player.A : Player.B);
+        }
+
+        char row = position.charAt(0);
+        if ((row != 'A' && row != 'B') || position.charAt(1) == '0' || position.length() > 11) {
+            return -1;
+        }
+        long n = 0;
+        for (int i = 1; i < position.length(); i++) {
+            char c = position.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            n = n * 10 + (c - '0');
+        }
+        return n <= this.houses ? this.board.house(row == 'A' ? Player.A : Player.B, (int) n) : -1;
+    }
+
+    // every pit, as Game.pits() has them, or only those that hold seeds
+    private final class Pits extends AbstractMap<String, Integer> {
+        private final boolean all;
+        private final Set<Map.Entry<String, Integer>> entries = new Entries();
+
+        Pits(boolean all) {
+            this.all = all;
+        }
+
+        @Override
+        public int size() {
+            return this.all ? board.length() : board.nonEmptyPits();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return this.get(key) != null;
+        }
+
+        @Override
+        public Integer get(Object key) {
+            int pit = key instanceof String position ? indexOf(position) : -1;
+            if (pit < 0) {
+                return null;
+            }
+            int seeds = board.seeds(pit);
+            return this.all || seeds > 0 ? seeds : null;
+        }
+
+        @Override
+        public Set<Map.Entry<String, Integer>> entrySet() {
+            return this.entries;
+        }
+
+        private int nextFrom(int pit) {
+            if (this.all) {
+                return pit < board.length() ? pit : -1;
+            }
+            return board.nextNonEmpty(pit);
+        }
+
+        private final class Entries extends AbstractSet<Map.Entry<String, Integer>> {
+            @Override
+            public int size() {
+                return Pits.this.size();
+            }
+
+            @Override
+            public Iterator<Map.Entry<String, Integer>> iterator() {
+                return new Iterator<>() {
+                    private int pit = nextFrom(0);
+
+                    @Override
+                    public boolean hasNext() {
+                        return this.pit >= 0;
+                    }
+
+                    @Override
+                    public Map.Entry<String, Integer> next() {
+                        if (!this.hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        int pit = this.pit;
+                        this.pit = nextFrom(pit + 1);
+                        return new SimpleImmutableEntry<>(name(pit), board.seeds(pit));
+                    }
+                };
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package net.alexmiranda.kalah;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+final class Tally {
+    static final int DRAW = 2;
+
+    final int houses;
+    long games;
+    long moves;
+    long extraTurns;
+    long captures;
+    final long[] outcomes = new long[3]; // wins for A, wins for B, draws
+    final long[][] firstMoves; // [house - 1][outcome]
+    long[] lengths = new long[64];
+
+    Tally(int houses) {
+        this.houses = houses;
+        this.firstMoves = new long[houses][3];
+    }
+
+    void record(int firstMove, int length, Optional<Player> winner) {
+        int outcome = winner.map(Player::ordinal).orElse(DRAW);
+        this.games++;
+        this.outcomes[outcome]++;
+        if (firstMove > 0) {
+            this.firstMoves[firstMove - 1][outcome]++;
+        }
+        if (length >= this.lengths.length) {
+            this.lengths = Arrays.copyOf(this.lengths, Math.max(length + 1, this.lengths.length * 2));
+        }
+        this.lengths[length]++;
+    }
+
+    Tally merge(Tally other) {
+        this.games += other.games;
+        this.moves += other.moves;
+        this.extraTurns += other.extraTurns;
+        this.captures += other.captures;
+        for (int i = 0; i < this.outcomes.length; i++) {
+            this.outcomes[i] += other.outcomes[i];
+        }
+        for (int n = 0; n < this.houses; n++) {
+            for (int i = 0; i < 3; i++) {
+                this.firstMoves[n][i] += other.firstMoves[n][i];
+            }
+        }
+        if (other.lengths.length > this.lengths.length) {
+            this.lengths = Arrays.copyOf(this.lengths, other.lengths.length);
+        }
+        for (int i = 0; i < other.lengths.length; i++) {
+            this.lengths[i] += other.lengths[i];
+        }
+        return this;
+    }
+}
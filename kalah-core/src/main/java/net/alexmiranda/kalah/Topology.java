@@ -0,0 +1,152 @@
+package net.alexmiranda.kalah;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+final class Topology {
+    static final int CACHED_HOUSES = 64;
+    static final int WIDE_ENTRIES = 16;
+    private static final AtomicReferenceArray<Topology> CACHE = new AtomicReferenceArray<>(CACHED_HOUSES + 1);
+    // wider boards are rare, so only the most recently used sizes are kept
+    private static final Map<Integer, Topology> WIDE = new LinkedHashMap<>(WIDE_ENTRIES * 2, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Topology> eldest) {
+            return this.size() > WIDE_ENTRIES;
+        }
+    };
+
+    private final int houses;
+    private final int length;
+    private final String[] names;
+    private final String[] everyHouse; // A1, B1, A2, B2, ...
+    private final Map<String, Integer> indexes;
+    private final int[] opposite;
+    private final int[][] next; // by player, skipping the opponent store
+    private final int[][] previous;
+
+    private Topology(int houses) {
+        this.houses = houses;
+        this.length = houses * 2 + 2;
+        this.names = new String[this.length];
+        this.everyHouse = new String[houses * 2];
+        this.indexes = new HashMap<>(this.length * 2);
+        this.opposite = new int[this.length];
+        this.next = new int[2][this.length];
+        this.previous = new int[2][this.length];
+
+        for (Player player : Player.values()) {
+            for (int n = 1; n <= houses; n++) {
+                int pit = this.house(player, n);
+                this.names[pit] = player.house(n).intern();
+                this.everyHouse[(n - 1) * 2 + player.ordinal()] = this.names[pit];
+            }
+            this.names[this.store(player)] = player.store().intern();
+        }
+
+        for (int pit = 0; pit < this.length; pit++) {
+            this.indexes.put(this.names[pit], pit);
+            this.opposite[pit] = this.isStore(pit) ? -1 : this.length - 2 - pit;
+            for (Player player : Player.values()) {
+                int skipped = this.store(player.opponent());
+                int n = (pit + 1) % this.length;
+                this.next[player.ordinal()][pit] = n == skipped ? (n + 1) % this.length : n;
+                int p = (pit - 1 + this.length) % this.length;
+                this.previous[player.ordinal()][pit] = p == skipped ? (p - 1 + this.length) % this.length : p;
+            }
+        }
+    }
+
+    static Topology of(int houses) {
+        Preconditions.check(houses > 0, "houses");
+        if (houses > CACHED_HOUSES) {
+            return wide(houses);
+        }
+        var topology = CACHE.get(houses);
+        if (topology == null) {
+            var built = new Topology(houses);
+            topology = CACHE.compareAndExchange(houses, null, built);
+            if (topology == null) {
+                topology = built;
+            }
+        }
+        return topology;
+    }
+
+    private static Topology wide(int houses) {
+        synchronized (WIDE) {
+            var topology = WIDE.get(houses);
+            if (topology != null) {
+                return topology;
+            }
+        }
+        var built = new Topology(houses); // built outside the lock, it may take a while
+        synchronized (WIDE) {
+            var topology = WIDE.putIfAbsent(houses, built);
+            return topology != null ? topology : built;
+        }
+    }
+
+    int houses() {
+        return this.houses;
+    }
+
+    int length() {
+        return this.length;
+    }
+
+    String name(int pit) {
+        return this.names[pit];
+    }
+
+    String everyHouse(int i) {
+        return this.everyHouse[i];
+    }
+
+    int indexOf(Object position) {
+        var pit = this.indexes.get(position);
+        return pit != null ? pit : -1;
+    }
+
+    int house(Player player, int n) {
+        return switch (player) {
+            case A -> n - 1;
+            case B -> this.houses + n;
+        };
+    }
+
+    int store(Player player) {
+        return switch (player) {
+            case A -> this.houses;
+            case B -> this.length - 1;
+        };
+    }
+
+    boolean isStore(int pit) {
+        return pit == this.houses || pit == this.length - 1;
+    }
+
+    Player owner(int pit) {
+        return pit <= this.houses ? Player.A : Player.B;
+    }
+
+    int opposite(int pit) {
+        return this.opposite[pit];
+    }
+
+    int next(Player player, int pit) {
+        return this.next[player.ordinal()][pit];
+    }
+
+    int previous(Player player, int pit) {
+        return this.previous[player.ordinal()][pit];
+    }
+
+    int plan(int start, int seeds) {
+        int lap = this.length - 1; // opponent store is skipped
+        int base = this.owner(start) == Player.A ? 0 : this.houses + 1;
+        int offset = (start - base + this.length) % this.length;
+        return ((offset + seeds % lap) % lap + base) % this.length;
+    }
+}
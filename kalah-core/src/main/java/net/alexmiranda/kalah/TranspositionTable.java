@@ -0,0 +1,69 @@
+package net.alexmiranda.kalah;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Two longs per entry, allocated once: the data word packs score, depth,
+// bound and move, and the key is stored xor-ed with it so that a torn or
+// foreign entry simply fails to match. That makes the table safe to share
+// between search threads without locks: each word is written atomically and
+// an entry half overwritten by another thread just reads as a miss.
+final class TranspositionTable {
+    static final int EXACT = 1;
+    static final int LOWER = 2;
+    static final int UPPER = 3;
+
+    private static final int MAX_HOUSE = (1 << 22) - 1;
+
+    private final AtomicLongArray entries; // key ^ data, then data
+    private final int mask;
+
+    TranspositionTable(int bits) {
+        Preconditions.check(bits > 0 && bits < 30, "bits");
+        this.entries = new AtomicLongArray(2 << bits);
+        this.mask = (1 << bits) - 1;
+    }
+
+    // the entry's data word, or 0 when the position is not in the table
+    long probe(long key) {
+        int i = ((int) key & this.mask) << 1;
+        long data = this.entries.getOpaque(i + 1);
+        return (this.entries.getOpaque(i) ^ data) == key ? data : 0;
+    }
+
+    void store(long key, int house, int depth, int bound, int score) {
+        int i = ((int) key & this.mask) << 1;
+        long data = (long) score << 32
+            | (long) Math.min(depth, 0xff) << 24
+            | (long) bound << 22
+            | (house <= MAX_HOUSE ? house : 0);
+        this.entries.setOpaque(i, key ^ data);
+        this.entries.setOpaque(i + 1, data);
+    }
+
+    void clear() {
+        for (int i = 0; i < this.entries.length(); i++) {
+            this.entries.setOpaque(i, 0);
+        }
+    }
+
+    int capacity() {
+        return this.entries.length() >> 1;
+    }
+
+    static int score(long data) {
+        return (int) (data >> 32);
+    }
+
+    static int depth(long data) {
+        return (int) (data >>> 24) & 0xff;
+    }
+
+    static int bound(long data) {
+        return (int) (data >>> 22) & 3;
+    }
+
+    // house number n of the best move, or 0 when none was recorded
+    static int house(long data) {
+        return (int) data & MAX_HOUSE;
+    }
+}
@@ -0,0 +1,40 @@
+package net.alexmiranda.kalah;
+
+// What the states need to end a turn. Every engine is one, over a board of
+// its own, so that every engine ends turns by the same rules.
+abstract class Turn {
+    GameState state = GameState.WAITING;
+    Player player = Player.A;
+    boolean isOver = false;
+
+    abstract boolean isStore(int pit);
+
+    // whether the last seed of a turn was sown into an empty house
+    abstract boolean holdsOneSeed(int pit);
+
+    abstract void captureIntoStore(int pit);
+
+    abstract boolean isRowEmpty(Player player);
+
+    abstract void terminate();
+
+    void switchPlayer() {
+        this.player = this.player.opponent();
+    }
+
+    boolean checkGameOver() {
+        return this.checkGameOver(false);
+    }
+
+    boolean checkGameOver(boolean checkBothPlayers) {
+        if (!this.isOver && (this.isRowEmpty(this.player)
+                || checkBothPlayers && this.isRowEmpty(this.player.opponent()))) {
+            this.isOver = true;
+        }
+        return this.isOver;
+    }
+
+    void setState(GameState state) {
+        this.state = state;
+    }
+}
@@ -0,0 +1,28 @@
+package net.alexmiranda.kalah;
+
+import java.util.Arrays;
+
+final class UndoLog {
+    private int[] entries = new int[64];
+    private int size;
+
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    void push(int value) {
+        if (this.size == this.entries.length) {
+            this.entries = Arrays.copyOf(this.entries, this.size * 2);
+        }
+        this.entries[this.size++] = value;
+    }
+
+    int pop() {
+        assert this.size > 0;
+        return this.entries[--this.size];
+    }
+
+    void clear() {
+        this.size = 0;
+    }
+}
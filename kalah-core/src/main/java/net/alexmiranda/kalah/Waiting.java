@@ -2,8 +2,8 @@ package net.alexmiranda.kalah;
 
 class Waiting implements GameState {
     @Override
-    public void beginTurn(Game game, Pit pit) {
-        int seeds = pit.select(game.player());
+    public void beginTurn(Game game, int pit) {
+        int seeds = game.select(pit);
         game.setState(SOWING_OWN_ROW);
         game.accept(pit, seeds);
     }
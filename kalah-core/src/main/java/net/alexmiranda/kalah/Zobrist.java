@@ -0,0 +1,15 @@
+package net.alexmiranda.kalah;
+
+final class Zobrist {
+    static final long PLAYER_B = key(-1, 1);
+
+    private Zobrist() {}
+
+    // counts are unbounded, so keys are mixed on demand instead of read from a table
+    static long key(int pit, int seeds) {
+        long z = ((long) pit << 32 | (seeds & 0xffffffffL)) * 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,455 @@
+package net.alexmiranda.kalah;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import static net.alexmiranda.kalah.TestSupport.translatePosition;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Assume;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.Negative;
+import net.jqwik.api.constraints.Positive;
+
+public class BoardTest {
+    @Example
+    public void testCannotHaveBoardWithoutPits() {
+        assertThatThrownBy(() -> Board.of(null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Property
+    public void testCannotHaveBoardWithInvalidLength(@ForAll @IntRange(max = 20) int length) {
+        Assume.that(length < 4 || length % 2 != 0);
+        assertThatThrownBy(() -> Board.of(new int[length]))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Property
+    public void testCannotHavePitWithNegativeSeeds(@ForAll("boards") int[] pits, @ForAll @Negative int seeds) {
+        pits[Arbitraries.integers().between(0, pits.length - 1).sample()] = seeds;
+        assertThatThrownBy(() -> Board.of(pits))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Property
+    public void testBoardIsCopied(@ForAll("boards") int[] pits) {
+        var board = new IntBoard(pits);
+        pits[0]++;
+        assertThat(board.seeds(0)).isEqualTo(pits[0] - 1);
+    }
+
+    @Property
+    public void testLayout(@ForAll @IntRange(min = 1, max = 20) int houses, @ForAll Player player, @ForAll @IntRange(min = 1, max = 20) int n) {
+        Assume.that(n <= houses);
+        var board = new IntBoard(new int[houses * 2 + 2]);
+        assertThat(board.houses()).isEqualTo(houses);
+        assertThat(board.length()).isEqualTo(houses * 2 + 2);
+        assertThat(board.house(player, n)).isEqualTo(translatePosition(player.house(n), houses));
+        assertThat(board.store(player)).isEqualTo(translatePosition(player.store(), houses));
+        assertThat(board.owner(board.house(player, n))).isEqualTo(player);
+        assertThat(board.owner(board.store(player))).isEqualTo(player);
+        assertThat(board.isStore(board.house(player, n))).isFalse();
+        assertThat(board.isStore(board.store(player))).isTrue();
+    }
+
+    @Property
+    public void testCannotAddressHouseOutOfRange(@ForAll @IntRange(min = 1, max = 20) int houses, @ForAll Player player, @ForAll int n) {
+        Assume.that(n < 1 || n > houses);
+        var board = new IntBoard(new int[houses * 2 + 2]);
+        assertThatThrownBy(() -> board.house(player, n))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Property
+    public void testNextWrapsAround(@ForAll @IntRange(min = 1, max = 20) int houses) {
+        var board = new IntBoard(new int[houses * 2 + 2]);
+        int pit = board.house(Player.A, 1);
+        for (int i = 1; i < board.length(); i++) {
+            pit = board.next(pit);
+            assertThat(pit).isEqualTo(i);
+        }
+        assertThat(board.next(pit)).isEqualTo(board.house(Player.A, 1));
+    }
+
+    @Property
+    public void testOpposite(@ForAll @IntRange(min = 1, max = 20) int houses, @ForAll Player player, @ForAll @IntRange(min = 1, max = 20) int n) {
+        Assume.that(n <= houses);
+        var board = new IntBoard(new int[houses * 2 + 2]);
+        int pit = board.house(player, n);
+        int opposite = board.house(player.opponent(), houses - n + 1);
+        assertThat(board.opposite(pit)).isEqualTo(opposite);
+        assertThat(board.opposite(opposite)).isEqualTo(pit);
+    }
+
+    @Property
+    public void testSelectEmptyHouse(@ForAll("boards") int[] pits, @ForAll Player player) {
+        var board = new IntBoard(pits);
+        int pit = board.house(player, 1);
+        board.yield(pit, player);
+
+        assertThatThrownBy(() -> board.select(pit, player))
+            .isInstanceOf(HouseEmptyException.class);
+        assertThatThrownBy(() -> board.select(pit, player.opponent()))
+            .isInstanceOf(HouseEmptyException.class);
+    }
+
+    @Property
+    public void testSelectNonEmptyHouseWithRightPlayer(@ForAll("boards") int[] pits, @ForAll Player player) {
+        var board = new IntBoard(pits);
+        int pit = board.house(player, 1);
+        int seedsBefore = board.seeds(pit);
+        Assume.that(seedsBefore > 0);
+
+        assertThat(board.select(pit, player)).isEqualTo(seedsBefore);
+        assertThat(board.seeds(pit)).isZero();
+    }
+
+    @Property
+    public void testSelectNonEmptyHouseWithWrongPlayer(@ForAll("boards") int[] pits, @ForAll Player player) {
+        var board = new IntBoard(pits);
+        int pit = board.house(player, 1);
+        int seedsBefore = board.seeds(pit);
+        Assume.that(seedsBefore > 0);
+
+        assertThatThrownBy(() -> board.select(pit, player.opponent()))
+            .isInstanceOf(OpponentHouseException.class);
+        assertThat(board.seeds(pit)).isEqualTo(seedsBefore);
+    }
+
+    @Property
+    public void testSelectStore(@ForAll("boards") int[] pits, @ForAll Player owner, @ForAll Player player) {
+        var board = new IntBoard(pits);
+        int store = board.store(owner);
+        int seedsBefore = board.seeds(store);
+        assertThatThrownBy(() -> board.select(store, player))
+            .isInstanceOf(CannotPlayOnStoreException.class);
+        assertThat(board.seeds(store)).isEqualTo(seedsBefore);
+    }
+
+    @Property
+    public void testYieldWithWrongPlayer(@ForAll("boards") int[] pits, @ForAll Player player) {
+        var board = new IntBoard(pits);
+        int pit = board.house(player, 1);
+        int seedsBefore = board.seeds(pit);
+
+        assertThatThrownBy(() -> board.yield(pit, player.opponent()))
+            .isInstanceOf(OpponentHouseException.class);
+        assertThat(board.seeds(pit)).isEqualTo(seedsBefore);
+    }
+
+    @Property
+    public void testCaptureWithRightPlayer(@ForAll("boards") int[] pits, @ForAll Player player) {
+        var board = new IntBoard(pits);
+        int pit = board.house(player, 1);
+        int opposite = board.opposite(pit);
+        int expected = board.seeds(pit) + board.seeds(opposite);
+
+        assertThat(board.capture(pit, player)).isEqualTo(expected);
+        assertThat(board.seeds(pit)).isZero();
+        assertThat(board.seeds(opposite)).isZero();
+    }
+
+    @Property
+    public void testCaptureWithWrongPlayer(@ForAll("boards") int[] pits, @ForAll Player player) {
+        var board = new IntBoard(pits);
+        int pit = board.house(player, 1);
+        int seedsBefore = board.seeds(pit);
+
+        assertThatThrownBy(() -> board.capture(pit, player.opponent()))
+            .isInstanceOf(HouseCaptureException.class);
+        assertThat(board.seeds(pit)).isEqualTo(seedsBefore);
+    }
+
+    @Property
+    public void testSowFullLaps(@ForAll("boards") int[] pits, @ForAll Player player, @ForAll @IntRange(min = 1, max = 20) int n, @ForAll @IntRange(min = 1, max = 1000) int laps) {
+        var board = new IntBoard(pits);
+        Assume.that(n <= board.houses());
+        int start = board.house(player, n);
+
+        assertThat(board.sowFrom(start, player, laps * (board.length() - 1))).isEqualTo(start);
+
+        int skipped = board.store(player.opponent());
+        for (int i = 0; i < pits.length; i++) {
+            int expected = i == skipped ? pits[i] : pits[i] + laps;
+            assertThat(board.seeds(i)).isEqualTo(expected);
+        }
+    }
+
+    @Property
+    public void testLoadMatchesNewBoard(@ForAll("boards") int[] pits, @ForAll("operations") int[] operations) {
+        var board = new IntBoard(pits);
+        for (int op : operations) {
+            board.sowFrom(board.house(Player.A, 1), Player.A, Math.floorMod(op, 40) + 1);
+        }
+
+        board.load(pits);
+
+        var expected = new IntBoard(pits);
+        assertSameAs(board, pits);
+        assertThat(board.hash()).isEqualTo(expected.hash());
+        assertThat(board.mirrorHash()).isEqualTo(expected.mirrorHash());
+    }
+
+    @Property
+    public void testFill(@ForAll @IntRange(min = 1, max = 20) int houses, @ForAll @IntRange(max = 20) int seeds) {
+        var board = new IntBoard(new int[houses * 2 + 2]);
+        board.fill(seeds);
+
+        var pits = new int[houses * 2 + 2];
+        for (int i = 0; i < pits.length; i++) {
+            pits[i] = board.isStore(i) ? 0 : seeds;
+        }
+        assertSameAs(board, pits);
+        assertThat(board.hash()).isEqualTo(new IntBoard(pits).hash());
+    }
+
+    @Property
+    public void testCannotLoadDifferentLength(@ForAll("boards") int[] pits) {
+        var board = new IntBoard(pits);
+        assertThatThrownBy(() -> board.load(new int[pits.length + 2]))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Property
+    public void testSowFromMatchesSowingEverySeed(@ForAll("boards") int[] pits, @ForAll Player player, @ForAll @IntRange(min = 1, max = 20) int n, @ForAll @IntRange(min = 1, max = 200) int seeds) {
+        var board = new IntBoard(pits);
+        Assume.that(n <= board.houses());
+        int start = board.house(player, n);
+        var expected = pits.clone();
+        int pit = start;
+        for (int i = 0; i < seeds; i++) {
+            pit = board.next(pit);
+            if (pit == board.store(player.opponent())) {
+                pit = board.next(pit);
+            }
+            expected[pit]++;
+        }
+
+        int last = board.sowFrom(start, player, seeds);
+
+        assertThat(last).isEqualTo(pit);
+        assertSameAs(board, expected);
+        assertThat(board.hash()).isEqualTo(new IntBoard(expected).hash());
+    }
+
+    @Property
+    public void testUnsowReversesSowing(@ForAll("boards") int[] pits, @ForAll Player player, @ForAll @IntRange(min = 1, max = 20) int n) {
+        var board = new IntBoard(pits);
+        Assume.that(n <= board.houses());
+        int start = board.house(player, n);
+        int seeds = board.yield(start, player);
+        board.sowFrom(start, player, seeds);
+
+        board.unsow(start, player, seeds);
+        assertSameAs(board, pits);
+    }
+
+    @Property
+    public void testUncaptureReversesCapture(@ForAll("boards") int[] pits, @ForAll Player player, @ForAll @IntRange(min = 1, max = 20) int n) {
+        Assume.that(n <= pits.length / 2 - 1);
+        var expected = pits.clone();
+        int pit = translatePosition(player.house(n), pits.length / 2 - 1);
+        expected[pit] = 1; // as if the last seed of a move had landed there
+        var board = new IntBoard(expected);
+
+        int captured = board.seeds(board.opposite(pit));
+        board.deposit(player, board.capture(pit, player));
+        board.uncapture(pit, player, captured);
+
+        assertSameAs(board, expected);
+    }
+
+    @Property
+    public void testUnsweepReversesSweep(@ForAll("boards") int[] pits) {
+        var board = new IntBoard(pits);
+        var log = new UndoLog();
+        board.saveRow(Player.A, log);
+        board.saveRow(Player.B, log);
+        board.sweep(Player.A);
+        board.sweep(Player.B);
+
+        board.unsweep(Player.B, log);
+        board.unsweep(Player.A, log);
+
+        assertThat(log.isEmpty()).isTrue();
+        assertSameAs(board, pits);
+    }
+
+    @Property
+    public void testDeposit(@ForAll("boards") int[] pits, @ForAll Player player, @ForAll @Positive int seeds) {
+        var board = new IntBoard(pits);
+        int store = board.store(player);
+        int seedsBefore = board.seeds(store);
+        Assume.that(seedsBefore <= Integer.MAX_VALUE - seeds);
+        board.deposit(player, seeds);
+        assertThat(board.seeds(store)).isEqualTo(seedsBefore + seeds);
+    }
+
+    @Property
+    public void testDepositNegativeNumbers(@ForAll("boards") int[] pits, @ForAll Player player, @ForAll @Negative int seeds) {
+        var board = new IntBoard(pits);
+        int store = board.store(player);
+        int seedsBefore = board.seeds(store);
+        assertThatThrownBy(() -> board.deposit(player, seeds))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(board.seeds(store)).isEqualTo(seedsBefore);
+    }
+
+    @Property
+    public void testRowEmpty(@ForAll("boards") int[] pits, @ForAll Player player) {
+        var board = new IntBoard(pits);
+        for (int n = 1; n <= board.houses(); n++) {
+            board.yield(board.house(player, n), player);
+        }
+        assertThat(board.isRowEmpty(player)).isTrue();
+    }
+
+    @Property
+    public void testRowNotEmpty(@ForAll("boards") int[] pits, @ForAll Player player) {
+        var board = new IntBoard(pits);
+        for (int n = 1; n <= board.houses(); n++) {
+            board.yield(board.house(player, n), player);
+        }
+        // the opponent's last house sows its store, then the first house of this row
+        board.sowFrom(board.house(player.opponent(), board.houses()), player.opponent(), 2);
+        assertThat(board.isRowEmpty(player)).isFalse();
+    }
+
+    @Property
+    public void testRowEmptyIsKeptUpToDate(@ForAll("boards") int[] pits, @ForAll("operations") int[] operations) {
+        var board = new IntBoard(pits);
+        for (int op : operations) {
+            int pit = Math.floorMod(op, board.length());
+            var player = op % 2 == 0 ? Player.A : Player.B;
+            switch (Math.floorMod(op, 4)) {
+                case 0 -> {
+                    if (!board.isStore(pit)) board.sowFrom(pit, board.owner(pit), Math.floorMod(op, 40) + 1);
+                }
+                case 1 -> {
+                    if (!board.isStore(pit)) board.yield(pit, board.owner(pit));
+                }
+                case 2 -> {
+                    if (!board.isStore(pit)) board.capture(pit, board.owner(pit));
+                }
+                default -> board.sweep(player);
+            }
+            for (Player p : Player.values()) {
+                assertThat(board.isRowEmpty(p)).isEqualTo(rowSum(board, p) == 0);
+            }
+        }
+    }
+
+    @Property
+    public void testHashIsKeptUpToDate(@ForAll("boards") int[] pits, @ForAll("operations") int[] operations) {
+        var board = new IntBoard(pits);
+        var log = new UndoLog();
+        for (int op : operations) {
+            int pit = Math.floorMod(op, board.length());
+            var player = op % 2 == 0 ? Player.A : Player.B;
+            switch (Math.floorMod(op, 3)) {
+                case 0 -> {
+                    if (!board.isStore(pit)) board.sowFrom(pit, board.owner(pit), Math.floorMod(op, 40) + 1);
+                }
+                case 1 -> {
+                    if (!board.isStore(pit)) board.deposit(player, board.capture(pit, board.owner(pit)));
+                }
+                default -> {
+                    board.saveRow(player, log);
+                    board.sweep(player);
+                }
+            }
+            var current = new int[pits.length];
+            board.copyInto(current);
+            var fresh = new IntBoard(current);
+            assertThat(board.hash()).isEqualTo(fresh.hash());
+            assertThat(board.mirrorHash()).isEqualTo(fresh.mirrorHash());
+        }
+    }
+
+    @Property
+    public void testMirrorHash(@ForAll("boards") int[] pits) {
+        var board = new IntBoard(pits);
+        var mirrored = new int[pits.length];
+        for (int i = 0; i < pits.length; i++) {
+            mirrored[board.mirror(i)] = pits[i];
+        }
+        var other = new IntBoard(mirrored);
+        assertThat(other.hash()).isEqualTo(board.mirrorHash());
+        assertThat(other.mirrorHash()).isEqualTo(board.hash());
+    }
+
+    @Property
+    public void testMirror(@ForAll @IntRange(min = 1, max = 20) int houses, @ForAll Player player, @ForAll @IntRange(min = 1, max = 20) int n) {
+        Assume.that(n <= houses);
+        var board = new IntBoard(new int[houses * 2 + 2]);
+        assertThat(board.mirror(board.house(player, n))).isEqualTo(board.house(player.opponent(), n));
+        assertThat(board.mirror(board.store(player))).isEqualTo(board.store(player.opponent()));
+    }
+
+    @Property
+    public void testSweep(@ForAll("boards") int[] pits, @ForAll Player player) {
+        var board = new IntBoard(pits);
+        int store = board.store(player);
+        int expected = rowSum(board, player);
+        int storeBefore = board.seeds(store);
+        int opponentBefore = rowSum(board, player.opponent());
+
+        assertThat(board.sweep(player)).isEqualTo(expected);
+        assertThat(board.isRowEmpty(player)).isTrue();
+        assertThat(rowSum(board, player)).isZero();
+        assertThat(board.seeds(store)).isEqualTo(storeBefore + expected);
+        assertThat(rowSum(board, player.opponent())).isEqualTo(opponentBefore);
+    }
+
+    @Property
+    public void testLeadingPlayer(@ForAll @Positive int big, @ForAll @Positive int small, @ForAll Player player) {
+        Assume.that(big > small);
+        var pits = new int[4];
+        pits[translatePosition(player.store(), 1)] = big;
+        pits[translatePosition(player.opponent().store(), 1)] = small;
+        assertThat(new IntBoard(pits).leader()).hasValue(player);
+    }
+
+    @Property
+    public void testLeadingPlayerDraw(@ForAll @Positive int score) {
+        var pits = new int[] { 0, score, 0, score };
+        assertThat(new IntBoard(pits).leader()).isEmpty();
+    }
+
+    private static void assertSameAs(Board board, int[] pits) {
+        var actual = new int[pits.length];
+        board.copyInto(actual);
+        assertThat(actual).containsExactly(pits);
+        for (Player player : Player.values()) {
+            assertThat(board.isRowEmpty(player)).isEqualTo(rowSum(board, player) == 0);
+        }
+    }
+
+    private static int rowSum(Board board, Player player) {
+        int sum = 0;
+        for (int n = 1; n <= board.houses(); n++) {
+            sum += board.seeds(board.house(player, n));
+        }
+        return sum;
+    }
+
+    @Provide
+    public Arbitrary<int[]> operations() {
+        return Arbitraries.integers().array(int[].class).ofMaxSize(50);
+    }
+
+    @Provide
+    public Arbitrary<int[]> boards() {
+        return Arbitraries.integers().between(1, 20).flatMap(houses ->
+            Arbitraries.integers()
+                .between(0, 100)
+                .array(int[].class)
+                .ofSize(houses * 2 + 2));
+    }
+}
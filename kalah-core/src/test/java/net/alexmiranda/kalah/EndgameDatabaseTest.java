@@ -0,0 +1,177 @@
+package net.alexmiranda.kalah;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import net.jqwik.api.Assume;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+
+public class EndgameDatabaseTest {
+    private static final int MAX_SEEDS = 10;
+    private static final Map<Integer, Path> FILES = new ConcurrentHashMap<>();
+
+    @Property
+    public void testIndexIsPerfect(@ForAll @IntRange(min = 1, max = 4) int houses, @ForAll @IntRange(max = 6) int maxSeeds) {
+        var index = new EndgameIndex(houses, maxSeeds);
+        var rows = new int[houses * 2];
+        for (int seeds = 0; seeds <= maxSeeds; seeds++) {
+            for (long i = index.first(seeds); i < index.end(seeds); i++) {
+                index.positionAt(i, seeds, rows);
+                int sum = 0;
+                for (int n : rows) {
+                    assertThat(n).isNotNegative();
+                    sum += n;
+                }
+                assertThat(sum).isEqualTo(seeds);
+                assertThat(index.indexOf(rows, seeds)).isEqualTo(i);
+            }
+        }
+        long expected = 1; // C(maxSeeds + 2h, 2h)
+        for (int k = 1; k <= houses * 2; k++) {
+            expected = expected * (maxSeeds + k) / k;
+        }
+        assertThat(index.size()).isEqualTo(expected);
+    }
+
+    @Property(tries = 300)
+    public void testProbeIsExact(@ForAll @IntRange(min = 1, max = 3) int houses, @ForAll @IntRange(min = 2, max = 4) int seeds, @ForAll long seed) throws IOException {
+        var database = EndgameDatabase.open(file(houses));
+        var game = endgame(houses, seeds, new SplittableRandom(seed));
+        Assume.that(game != null);
+
+        assertThat(database.probe(game)).hasValue(exact(game));
+    }
+
+    @Property(tries = 100)
+    public void testBestMoveKeepsValue(@ForAll @IntRange(min = 1, max = 3) int houses, @ForAll @IntRange(min = 2, max = 4) int seeds, @ForAll long seed) throws IOException {
+        var database = EndgameDatabase.open(file(houses));
+        var game = endgame(houses, seeds, new SplittableRandom(seed));
+        Assume.that(game != null && !game.isOver());
+
+        while (!game.isOver() && database.bestMove(game).isPresent()) {
+            var player = game.player();
+            int value = database.probe(game).getAsInt();
+            game.play(database.bestMove(game).getAsInt());
+            int next = database.probe(game).getAsInt();
+            assertThat(game.player() == player ? next : -next).isEqualTo(value);
+        }
+    }
+
+    @Example
+    public void testProbeOutOfRange() throws IOException {
+        var database = EndgameDatabase.open(file(2));
+
+        assertThat(database.houses()).isEqualTo(2);
+        assertThat(database.maxSeeds()).isEqualTo(MAX_SEEDS);
+        assertThat(database.probe(new Game(3, 1))).isEmpty();
+        assertThat(database.probe(new Game(2, 3))).isEmpty(); // 12 seeds in play
+        assertThat(database.probe(new Game(2, 2))).isPresent();
+        assertThat(database.bestMove(new Game(2, 3))).isEmpty();
+    }
+
+    @Example
+    public void testFinishedGame() throws IOException {
+        var database = EndgameDatabase.open(file(1));
+        var game = new Game(new int[] { 0, 3, 0, 1 }, GameState.FINISHED, Player.A);
+
+        assertThat(database.probe(game)).hasValue(2);
+        assertThat(database.bestMove(game)).isEmpty();
+    }
+
+    @Example
+    public void testRejectsOtherFiles() throws IOException {
+        var file = Files.createTempFile("kalah", ".edb");
+        try {
+            Files.write(file, new byte[64]);
+            assertThatThrownBy(() -> EndgameDatabase.open(file))
+                .isInstanceOf(IOException.class);
+            Files.write(file, Files.readAllBytes(file(1)), java.nio.file.StandardOpenOption.TRUNCATE_EXISTING);
+            Files.write(file, new byte[1], java.nio.file.StandardOpenOption.APPEND);
+            assertThatThrownBy(() -> EndgameDatabase.open(file))
+                .isInstanceOf(IOException.class);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Example
+    public void testInvalidArguments() {
+        assertThatThrownBy(() -> EndgameDatabase.build(0, 4, Path.of("unused")))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> EndgameDatabase.build(6, 128, Path.of("unused")))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> EndgameDatabase.build(6, 4, null))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> EndgameDatabase.open(null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Path file(int houses) {
+        return FILES.computeIfAbsent(houses, h -> {
+            try {
+                var file = Files.createTempFile("kalah-" + h, ".edb");
+                file.toFile().deleteOnExit();
+                EndgameDatabase.build(h, MAX_SEEDS, file, new ForkJoinPool(3));
+                return file;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    // a random game played until few enough seeds are left, or null if it
+    // ended before that
+    private static Game endgame(int houses, int seeds, SplittableRandom random) {
+        Assume.that(houses > 1 || seeds > 1);
+        var game = new Game(houses, seeds);
+        var moves = new int[houses];
+        int count;
+        while (inPlay(game) > MAX_SEEDS || random.nextInt(4) > 0) {
+            if (game.isOver() || (count = game.legalMoves(moves)) == 0) {
+                return inPlay(game) > MAX_SEEDS ? null : game;
+            }
+            game.play(moves[random.nextInt(count)]);
+        }
+        return game;
+    }
+
+    private static int inPlay(Game game) {
+        int seeds = 0;
+        for (int n = 1; n <= game.houses(); n++) {
+            seeds += game.seedsAt(game.houseIndex(Player.A, n)) + game.seedsAt(game.houseIndex(Player.B, n));
+        }
+        return seeds;
+    }
+
+    // minimax on Game itself; positions without moves are unreachable in
+    // play and only scored the way the database fills its table
+    private static int exact(Game game) {
+        var player = game.player();
+        int margin = game.seedsAt(game.storeIndex(player)) - game.seedsAt(game.storeIndex(player.opponent()));
+        var moves = new int[game.houses()];
+        int count = game.isOver() ? 0 : game.legalMoves(moves);
+        if (count == 0) {
+            return game.isOver() ? margin : margin - inPlay(game);
+        }
+        int best = Integer.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            var next = game.copy();
+            next.play(moves[i]);
+            int value = exact(next);
+            best = Math.max(best, next.player() == player ? value : -value);
+        }
+        return best;
+    }
+}
@@ -18,19 +18,13 @@ public class FinishedTest {
 
     @Example
     public void testCannotBeginTurn() {
-        assertThatThrownBy(() -> sut.beginTurn(null, null))
+        assertThatThrownBy(() -> sut.beginTurn(null, 0))
             .isInstanceOf(GameOverException.class);
     }
 
-    @Example
-    public void testCannotVisit() {
-        assertThatThrownBy(() -> sut.visit(null, null, 0))
-            .isInstanceOf(UnsupportedOperationException.class);
-    }
-
     @Example
     public void testCannotEndTurn() {
-        assertThatThrownBy(() -> sut.endTurn(null, null))
+        assertThatThrownBy(() -> sut.endTurn(null, 0))
             .isInstanceOf(UnsupportedOperationException.class);
     }
 
@@ -0,0 +1,102 @@
+package net.alexmiranda.kalah;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.SplittableRandom;
+
+import net.jqwik.api.Assume;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+
+public class GameBatchTest {
+    @Example
+    public void testScalarEngineWithoutVectorModule() {
+        // the vector engine and its tests live in kalah-vector
+        assertThat(GameBatch.isVectorized()).isFalse();
+    }
+
+    @Property(tries = 50)
+    public void testDefaultEngineMatchesGame(@ForAll @IntRange(min = 1, max = 16) int houses, @ForAll @IntRange(min = 1, max = 4) int seeds, @ForAll @IntRange(min = 1, max = 20) int games, @ForAll long seed) {
+        Assume.that(houses > 1 || seeds > 1);
+        assertMatchesGame(new GameBatch(houses, seeds, games), new SplittableRandom(seed));
+    }
+
+    @Property(tries = 200)
+    public void testScalarEngineMatchesGame(@ForAll @IntRange(min = 1, max = 8) int houses, @ForAll @IntRange(min = 1, max = 8) int seeds, @ForAll @IntRange(min = 1, max = 40) int games, @ForAll long seed) {
+        Assume.that(houses > 1 || seeds > 1);
+        var batch = new GameBatch(houses, seeds, games, ScalarBatchEngine.INSTANCE);
+        assertMatchesGame(batch, new SplittableRandom(seed));
+    }
+
+    @Property
+    public void testReset(@ForAll @IntRange(min = 1, max = 8) int houses, @ForAll @IntRange(min = 2, max = 8) int seeds) {
+        var batch = new GameBatch(houses, seeds, 3);
+        var moves = new int[] { 0, houses - 1, 0 };
+        batch.play(moves, new MoveResult[3]);
+
+        batch.reset(1);
+        assertMatches(batch, 1, new Game(houses, seeds));
+        batch.reset();
+        for (int g = 0; g < batch.size(); g++) {
+            assertMatches(batch, g, new Game(houses, seeds));
+        }
+    }
+
+    @Example
+    public void testCannotCreateInvalidBatch() {
+        assertThatThrownBy(() -> new GameBatch(0, 4, 10))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new GameBatch(6, 0, 10))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new GameBatch(6, 4, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new GameBatch(6, 4, 10).play(new int[9], new MoveResult[10]))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new GameBatch(6, 4, 10).seedsAt(10, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void assertMatchesGame(GameBatch batch, SplittableRandom random) {
+        int length = batch.houses() * 2 + 2;
+        var games = new Game[batch.size()];
+        for (int g = 0; g < games.length; g++) {
+            games[g] = new Game(batch.houses(), batch.seeds());
+        }
+
+        var moves = new int[batch.size()];
+        var results = new MoveResult[batch.size()];
+        for (int round = 0; round < 200; round++) {
+            for (int g = 0; g < games.length; g++) {
+                moves[g] = random.nextInt(8) == 0
+                    ? random.nextInt(-1, length + 1)
+                    : games[g].houseIndex(games[g].player(), random.nextInt(batch.houses()) + 1);
+            }
+
+            int played = batch.play(moves, results);
+
+            int expectedPlayed = 0;
+            for (int g = 0; g < games.length; g++) {
+                var expected = games[g].tryPlay(moves[g]);
+                assertThat(results[g]).isEqualTo(expected);
+                assertMatches(batch, g, games[g]);
+                expectedPlayed += expected == MoveResult.OK ? 1 : 0;
+            }
+            assertThat(played).isEqualTo(expectedPlayed);
+        }
+    }
+
+    private static void assertMatches(GameBatch batch, int g, Game game) {
+        var pits = new int[batch.houses() * 2 + 2];
+        var expected = new int[pits.length];
+        batch.copyInto(g, pits);
+        game.copyInto(expected);
+        assertThat(pits).containsExactly(expected);
+        assertThat(batch.player(g)).isEqualTo(game.player());
+        assertThat(batch.isOver(g)).isEqualTo(game.isOver());
+        assertThat(batch.winner(g)).isEqualTo(game.winner());
+        assertThat(batch.toGame(g)).isEqualTo(game);
+    }
+}
@@ -0,0 +1,139 @@
+package net.alexmiranda.kalah;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+
+public class GamePoolTest {
+    @Property
+    public void testAcquireNewGame(@ForAll @IntRange(min = 2, max = 10) int houses, @ForAll @IntRange(min = 1, max = 12) int seeds) {
+        var pool = new GamePool(houses, seeds, 4);
+        var game = pool.acquire();
+        assertThat(game).isEqualTo(new Game(houses, seeds));
+    }
+
+    @Property
+    public void testReleasedGameIsReusedAfterReset(@ForAll @IntRange(min = 2, max = 10) int houses, @ForAll @IntRange(min = 1, max = 12) int seeds) {
+        var pool = new GamePool(houses, seeds, 4);
+        var game = pool.acquire();
+        game.recordUndo(true);
+        game.play(game.houseIndex(Player.A, 1));
+        pool.release(game);
+
+        var reused = pool.acquire();
+
+        assertThat(reused).isSameAs(game).isEqualTo(new Game(houses, seeds));
+        assertThat(reused.canUndo()).isFalse();
+        assertThat(pool.acquire()).isNotSameAs(game);
+    }
+
+    @Property
+    public void testGameResetToBoardIsReused(@ForAll @IntRange(min = 2, max = 10) int houses, @ForAll @IntRange(min = 1, max = 12) int seeds) {
+        var pool = new GamePool(houses, seeds, 4);
+        var game = pool.acquire();
+        var board = new int[houses * 2 + 2];
+        board[houses] = houses * seeds * 2;
+        game.reset(board, Player.B);
+        assertThat(game.seeds()).isEqualTo(seeds);
+        pool.release(game);
+
+        var reused = pool.acquire();
+
+        assertThat(reused).isSameAs(game).isEqualTo(new Game(houses, seeds));
+        assertThat(reused.seeds()).isEqualTo(seeds);
+    }
+
+    @Example
+    public void testCannotResetPooledGameToOtherSeedTotal() {
+        var pool = new GamePool(6, 4, 4);
+        var game = pool.acquire();
+        var board = new int[14];
+        board[6] = 600;
+        assertThatThrownBy(() -> game.reset(board, Player.A))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        pool.release(game);
+        assertThat(pool.acquire()).isSameAs(game).isEqualTo(new Game(6, 4));
+    }
+
+    @Example
+    public void testPoolIsBounded() {
+        var pool = new GamePool(6, 4, 1);
+        var first = pool.acquire();
+        var second = pool.acquire();
+        pool.release(first);
+        pool.release(second);
+
+        assertThat(pool.acquire()).isSameAs(first);
+        assertThat(pool.acquire()).isNotSameAs(second);
+    }
+
+    @Example
+    public void testPoolIsPerThread() throws Exception {
+        var pool = new GamePool(6, 4, 4);
+        var game = pool.acquire();
+        pool.release(game);
+
+        var other = CompletableFuture.supplyAsync(pool::acquire).get();
+
+        assertThat(other).isNotSameAs(game);
+        assertThat(pool.acquire()).isSameAs(game);
+    }
+
+    @Example
+    public void testCannotReleaseTwice() {
+        var pool = new GamePool(6, 4, 4);
+        var game = pool.acquire();
+        pool.release(game);
+        assertThatThrownBy(() -> pool.release(game))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(pool.acquire()).isSameAs(game);
+        pool.release(game);
+    }
+
+    @Example
+    public void testCanReleaseEqualGames() {
+        var pool = new GamePool(6, 4, 4);
+        var first = new Game(6, 4);
+        var second = new Game(6, 4);
+        pool.release(first);
+        pool.release(second);
+
+        assertThat(pool.acquire()).isSameAs(second);
+        assertThat(pool.acquire()).isSameAs(first);
+    }
+
+    @Example
+    public void testCannotReleaseOtherConfiguration() {
+        var pool = new GamePool(6, 4, 4);
+        assertThatThrownBy(() -> pool.release(new Game(6, 3)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> pool.release(new Game(5, 4)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> pool.release(null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Property
+    public void testDefaultCapacity(@ForAll @IntRange(min = 2, max = 10) int houses, @ForAll @IntRange(min = 1, max = 12) int seeds) {
+        var pool = new GamePool(houses, seeds);
+        assertThat(pool.houses()).isEqualTo(houses);
+        assertThat(pool.seeds()).isEqualTo(seeds);
+        assertThat(pool.capacity()).isEqualTo(GamePool.DEFAULT_CAPACITY);
+    }
+
+    @Example
+    public void testCannotCreateInvalidPool() {
+        assertThatThrownBy(() -> new GamePool(0, 4, 4)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new GamePool(6, 0, 4)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new GamePool(1, 1, 4)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new GamePool(6, 4, -1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,86 @@
+package net.alexmiranda.kalah;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.Size;
+
+public class GameSnapshotTest {
+    @Property
+    public void testSnapshotMatchesGame(@ForAll(supplier = NewGameSupplier.class) Game game) {
+        var snapshot = game.snapshot();
+        assertThat(snapshot.pits()).isEqualTo(game.pits());
+        assertThat(snapshot.player()).isEqualTo(game.player());
+        assertThat(snapshot.isOver()).isEqualTo(game.isOver());
+        assertThat(snapshot.winner()).isEqualTo(game.winner());
+        assertThat(snapshot.houses()).isEqualTo(game.houses());
+        assertThat(snapshot.seeds()).isEqualTo(game.seeds());
+    }
+
+    @Property
+    public void testSnapshotIsNotAffectedByGame(@ForAll(supplier = NewGameSupplier.class) Game game) {
+        var before = new LinkedHashMap<>(game.pits());
+        var snapshot = game.snapshot();
+
+        game.play(game.houseIndex(Player.A, 1));
+
+        assertThat(snapshot.pits()).isEqualTo(before);
+        assertThat(snapshot.player()).isEqualTo(Player.A);
+    }
+
+    @Property
+    public void testPlayForksSnapshot(@ForAll(supplier = NewGameSupplier.class) Game game, @ForAll @Size(max = 30) List<@IntRange(min = 1, max = GameTest.MAX_HOUSES) Integer> moves) {
+        var snapshot = game.snapshot();
+        for (int n : moves) {
+            if (game.isOver()) {
+                break;
+            }
+            int pit = game.houseIndex(game.player(), (n - 1) % game.houses() + 1);
+            if (game.seedsAt(pit) == 0) {
+                continue;
+            }
+
+            var before = new LinkedHashMap<>(snapshot.pits());
+            var next = snapshot.play(pit);
+            game.play(pit);
+
+            assertThat(snapshot.pits()).isEqualTo(before);
+            assertThat(next.pits()).isEqualTo(game.pits());
+            assertThat(next.player()).isEqualTo(game.player());
+            assertThat(next.isOver()).isEqualTo(game.isOver());
+            assertThat(next.winner()).isEqualTo(game.winner());
+            snapshot = next;
+        }
+    }
+
+    @Property
+    public void testIllegalMoveLeavesSnapshotUntouched(@ForAll(supplier = NewGameSupplier.class) Game game, @ForAll Player player) {
+        var snapshot = game.snapshot();
+        var before = new LinkedHashMap<>(snapshot.pits());
+
+        assertThatThrownBy(() -> snapshot.play(player.store()))
+            .isInstanceOf(CannotPlayOnStoreException.class);
+        assertThatThrownBy(() -> snapshot.play(snapshot.houseIndex(Player.B, 1)))
+            .isInstanceOf(OpponentHouseException.class);
+
+        assertThat(snapshot.pits()).isEqualTo(before);
+    }
+
+    @Property
+    public void testToGameIsIndependent(@ForAll(supplier = NewGameSupplier.class) Game game) {
+        var snapshot = game.snapshot();
+        var before = new LinkedHashMap<>(snapshot.pits());
+
+        var copy = snapshot.toGame();
+        copy.play(copy.houseIndex(Player.A, 1));
+
+        assertThat(snapshot.pits()).isEqualTo(before);
+        assertThat(copy.pits()).isNotEqualTo(before);
+    }
+}
@@ -2,25 +2,36 @@ package net.alexmiranda.kalah;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 
 import static net.alexmiranda.kalah.Kalah.backwardSequence;
 import static net.alexmiranda.kalah.Kalah.everyHouse;
 import static net.alexmiranda.kalah.Kalah.forwardSequence;
 import static net.alexmiranda.kalah.Kalah.oppositeOf;
 import static net.alexmiranda.kalah.Kalah.plan;
+import static net.alexmiranda.kalah.TestSupport.replay;
 import static net.alexmiranda.kalah.TestSupport.sum;
 import static net.alexmiranda.kalah.TestSupport.translatePosition;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import net.jqwik.api.Arbitraries;
 import net.jqwik.api.Arbitrary;
 import net.jqwik.api.Assume;
 import net.jqwik.api.Combinators;
+import net.jqwik.api.Example;
 import net.jqwik.api.ForAll;
 import net.jqwik.api.Property;
 import net.jqwik.api.Provide;
 import net.jqwik.api.RandomDistribution;
 import net.jqwik.api.constraints.IntRange;
 import net.jqwik.api.constraints.Negative;
+import net.jqwik.api.constraints.Size;
 
 public class GameTest {
     static final int MAX_HOUSES = 10;
@@ -42,6 +53,504 @@ public class GameTest {
         });
     }
 
+    @Property
+    public void testPitsIsLiveView(@ForAll(supplier = NewGameSupplier.class) Game game, @ForAll @IntRange(min = 1, max = MAX_HOUSES) int n) {
+        Assume.that(n <= game.houses());
+        var pits = game.pits();
+        String position = Player.A.house(n);
+        int seedsBefore = pits.get(position);
+
+        game.play(position);
+
+        assertThat(game.pits()).isSameAs(pits);
+        assertThat(pits.get(position))
+            .isEqualTo(game.seedsAt(game.houseIndex(Player.A, n)))
+            .isLessThan(seedsBefore);
+        assertThat(pits.keySet()).containsExactlyElementsOf(new LinkedHashMap<>(pits).keySet());
+    }
+
+    @Property
+    public void testPitsIsReadOnly(@ForAll(supplier = NewGameSupplier.class) Game game) {
+        var pits = game.pits();
+        assertThatThrownBy(() -> pits.put(Player.A.house(1), 0))
+            .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> pits.remove(Player.A.store()))
+            .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> pits.entrySet().iterator().remove())
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Property
+    public void testForEachPitAndCopyIntoFollowPits(@ForAll(supplier = NewGameSupplier.class) Game game) {
+        var expected = game.pits().values().stream().mapToInt(Integer::intValue).toArray();
+
+        var visited = new int[expected.length];
+        var order = new ArrayList<Integer>();
+        game.forEachPit((pit, seeds) -> {
+            order.add(pit);
+            visited[pit] = seeds;
+        });
+
+        var copied = new int[expected.length];
+        game.copyInto(copied);
+
+        assertThat(visited).containsExactly(expected);
+        assertThat(copied).containsExactly(expected);
+        assertThat(order).isSorted().hasSize(expected.length);
+    }
+
+    @Property
+    public void testCannotCopyIntoSmallerArray(@ForAll(supplier = NewGameSupplier.class) Game game) {
+        assertThatThrownBy(() -> game.copyInto(new int[game.houses() * 2 + 1]))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Property
+    public void testUndoRestoresEveryPosition(@ForAll(supplier = NewGameSupplier.class) Game game, @ForAll @Size(max = 50) List<@IntRange(min = 1, max = MAX_HOUSES) Integer> moves) {
+        game.recordUndo(true);
+        var positions = new ArrayList<Map<String, Integer>>();
+        var players = new ArrayList<Player>();
+        for (int n : moves) {
+            if (game.isOver()) {
+                break;
+            }
+            int pit = game.houseIndex(game.player(), (n - 1) % game.houses() + 1);
+            if (game.seedsAt(pit) == 0) {
+                continue;
+            }
+            positions.add(new LinkedHashMap<>(game.pits()));
+            players.add(game.player());
+            game.play(pit);
+        }
+
+        for (int i = positions.size() - 1; i >= 0; i--) {
+            assertThat(game.canUndo()).isTrue();
+            game.undo();
+            assertThat(game.pits()).isEqualTo(positions.get(i));
+            assertThat(game.player()).isEqualTo(players.get(i));
+            assertThat(game.isOver()).isFalse();
+            assertThat(game.winner()).isEmpty();
+        }
+        assertThat(game.canUndo()).isFalse();
+    }
+
+    @Example
+    public void testUndoAfterGameOver() {
+        var player = Player.A;
+        var game = new Game(new int[] { 0, 1, 0, 3, 0, 0 }, GameState.WAITING, player);
+        game.recordUndo(true);
+
+        var before = new LinkedHashMap<>(game.pits());
+        game.play(game.houseIndex(player, 2));
+        assertThat(game.isOver()).isTrue();
+        assertThat(game.winner()).contains(Player.B);
+
+        game.undo();
+        assertThat(game.isOver()).isFalse();
+        assertThat(game.pits()).isEqualTo(before);
+        assertThat(game.player()).isEqualTo(player);
+        assertThat(game.winner()).isEmpty();
+    }
+
+    @Property
+    public void testNothingToUndo(@ForAll(supplier = NewGameSupplier.class) Game game) {
+        assertThat(game.canUndo()).isFalse();
+        assertThatThrownBy(() -> game.undo())
+            .isInstanceOf(NothingToUndoException.class);
+
+        game.play(game.houseIndex(Player.A, 1));
+        assertThatThrownBy(() -> game.undo())
+            .isInstanceOf(NothingToUndoException.class);
+
+        game.recordUndo(true);
+        assertThatThrownBy(() -> game.undo())
+            .isInstanceOf(NothingToUndoException.class);
+    }
+
+    @Property
+    public void testIllegalMovesAreNotRecorded(@ForAll(supplier = NewGameSupplier.class) Game game, @ForAll Player player) {
+        game.recordUndo(true);
+        assertThatThrownBy(() -> game.play(game.storeIndex(player)))
+            .isInstanceOf(CannotPlayOnStoreException.class);
+        assertThatThrownBy(() -> game.play(game.houseIndex(Player.B, 1)))
+            .isInstanceOf(OpponentHouseException.class);
+        assertThat(game.canUndo()).isFalse();
+    }
+
+    @Property
+    public void testPositionHashFollowsMoves(@ForAll(supplier = NewGameSupplier.class) Game game, @ForAll @Size(max = 50) List<@IntRange(min = 1, max = MAX_HOUSES) Integer> moves) {
+        for (int n : moves) {
+            if (game.isOver()) {
+                break;
+            }
+            int pit = game.houseIndex(game.player(), (n - 1) % game.houses() + 1);
+            if (game.seedsAt(pit) == 0) {
+                continue;
+            }
+            game.play(pit);
+
+            var board = new int[game.houses() * 2 + 2];
+            game.copyInto(board);
+            var fresh = new Game(board, GameState.WAITING, game.player());
+            assertThat(game.positionHash()).isEqualTo(fresh.positionHash());
+            assertThat(game.canonicalHash()).isEqualTo(fresh.canonicalHash());
+        }
+    }
+
+    @Property
+    public void testPositionHashDependsOnPlayer(@ForAll(supplier = NewGameSupplier.class) Game game) {
+        var board = new int[game.houses() * 2 + 2];
+        game.copyInto(board);
+        var other = new Game(board, GameState.WAITING, Player.B);
+        assertThat(other.positionHash()).isNotEqualTo(game.positionHash());
+    }
+
+    @Property
+    public void testMirroredPositionsShareCanonicalHash(@ForAll(supplier = NewGameSupplier.class) Game game, @ForAll @Size(max = 20) List<@IntRange(min = 1, max = MAX_HOUSES) Integer> moves) {
+        replay(game, moves);
+
+        int houses = game.houses();
+        var board = new int[houses * 2 + 2];
+        game.copyInto(board);
+        var mirrored = new int[board.length];
+        for (int i = 0; i < board.length; i++) {
+            mirrored[(i + houses + 1) % board.length] = board[i];
+        }
+        var mirror = new Game(mirrored, GameState.WAITING, game.player().opponent());
+
+        assertThat(mirror.canonicalHash()).isEqualTo(game.canonicalHash());
+    }
+
+    @Property
+    public void testEqualPositions(@ForAll(supplier = NewGameSupplier.class) Game game, @ForAll @Size(max = 30) List<@IntRange(min = 1, max = MAX_HOUSES) Integer> moves) {
+        replay(game, moves);
+        Assume.that(!game.isOver());
+
+        var board = new int[game.houses() * 2 + 2];
+        game.copyInto(board);
+        var same = new Game(board, GameState.WAITING, game.player());
+        var other = new Game(board, GameState.WAITING, game.player().opponent());
+
+        assertThat(same).isEqualTo(game).hasSameHashCodeAs(game);
+        assertThat(other).isNotEqualTo(game);
+        assertThat(new HashSet<>(List.of(game, same, other))).hasSize(2);
+    }
+
+    @Property
+    public void testEqualityFollowsMoves(@ForAll(supplier = NewGameSupplier.class) Game game) {
+        var copy = game.snapshot().toGame();
+        assertThat(copy).isEqualTo(game);
+
+        game.play(game.houseIndex(Player.A, 1));
+        assertThat(copy).isNotEqualTo(game);
+
+        copy.play(copy.houseIndex(Player.A, 1));
+        assertThat(copy).isEqualTo(game).hasSameHashCodeAs(game);
+        assertThat(copy.snapshot()).isEqualTo(game.snapshot()).hasSameHashCodeAs(game.snapshot());
+    }
+
+    @Property
+    public void testAnalyzeMovesMatchesPlay(@ForAll(supplier = NewGameSupplier.class) Game game, @ForAll @Size(max = 30) List<@IntRange(min = 1, max = MAX_HOUSES) Integer> moves) {
+        replay(game, moves);
+        var player = game.player();
+        var board = new int[game.houses() * 2 + 2];
+        game.copyInto(board);
+        var analysis = game.analyzeMoves();
+        var snapshot = game.snapshot();
+
+        assertThat(analysis.player()).isEqualTo(player);
+        int legal = 0;
+        for (int n = 1; n <= game.houses(); n++) {
+            int pit = game.houseIndex(player, n);
+            var copy = snapshot.toGame();
+            boolean isLegal = copy.tryPlay(pit) == MoveResult.OK;
+            assertThat(analysis.isLegal(n)).isEqualTo(isLegal);
+            assertThat(analysis.legalMask() >>> (n - 1) & 1).isEqualTo(isLegal ? 1 : 0);
+            if (!isLegal) {
+                assertThat(analysis.landing(n)).isEqualTo(-1);
+                assertThat(analysis.isExtraTurn(n)).isFalse();
+                assertThat(analysis.captured(n)).isZero();
+                continue;
+            }
+            legal++;
+
+            var expected = Board.of(board);
+            int last = expected.sowFrom(pit, player, expected.yield(pit, player));
+            boolean capture = !expected.isStore(last) && expected.owner(last) == player && expected.seeds(last) == 1;
+            assertThat(analysis.landing(n)).isEqualTo(last);
+            assertThat(analysis.isExtraTurn(n)).isEqualTo(last == game.storeIndex(player));
+            assertThat(analysis.isCapture(n)).isEqualTo(capture).isEqualTo(copy.captured());
+            assertThat(analysis.captured(n)).isEqualTo(capture ? 1 + expected.seeds(expected.opposite(last)) : 0);
+        }
+        assertThat(analysis.legalCount()).isEqualTo(legal);
+        assertThat(game).isEqualTo(snapshot.toGame());
+    }
+
+    @Property
+    public void testAnalyzeMovesLongSowing(@ForAll @IntRange(min = 1, max = MAX_HOUSES) int houses, @ForAll @IntRange(min = 20, max = 500) int seeds, @ForAll Player player) {
+        var board = new int[houses * 2 + 2];
+        Arrays.fill(board, seeds);
+        board[houses] = 0;
+        board[board.length - 1] = 0;
+        var game = new Game(board, GameState.WAITING, player);
+        var analysis = game.analyzeMoves(new MoveAnalysis(houses));
+
+        for (int n = 1; n <= houses; n++) {
+            int pit = game.houseIndex(player, n);
+            var copy = game.snapshot().toGame();
+            copy.play(pit);
+            assertThat(analysis.landing(n)).isEqualTo(plan(pit, houses, seeds));
+            assertThat(analysis.isCapture(n)).isEqualTo(copy.captured());
+        }
+    }
+
+    @Example
+    public void testAnalyzeMovesWhenGameIsOver() {
+        var game = new Game(new int[] { 0, 3, 0, 1 }, GameState.FINISHED, Player.A);
+        var analysis = game.analyzeMoves();
+        assertThat(analysis.legalMask()).isZero();
+        assertThat(analysis.legalCount()).isZero();
+    }
+
+    @Property
+    public void testCannotAnalyzeIntoDifferentSize(@ForAll(supplier = NewGameSupplier.class) Game game) {
+        assertThatThrownBy(() -> game.analyzeMoves(new MoveAnalysis(game.houses() + 1)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Property
+    public void testPlayAllMatchesPlayingOneByOne(@ForAll(supplier = NewGameSupplier.class) Game game, @ForAll @Size(max = 60) List<@IntRange(min = -2, max = MAX_HOUSES * 2 + 4) Integer> pits) {
+        var expected = game.snapshot().toGame();
+        var moves = pits.stream().mapToInt(Integer::intValue).toArray();
+        int firstIllegal = -1;
+        for (int i = 0; i < moves.length; i++) {
+            if (expected.tryPlay(moves[i]) != MoveResult.OK) {
+                firstIllegal = i;
+                break;
+            }
+        }
+
+        assertThat(game.playAll(moves)).isEqualTo(firstIllegal);
+        assertThat(game).isEqualTo(expected);
+        assertThat(game.pits()).isEqualTo(expected.pits());
+        assertThat(game.positionHash()).isEqualTo(expected.positionHash());
+        assertThat(game.canonicalHash()).isEqualTo(expected.canonicalHash());
+        assertThat(game.isOver()).isEqualTo(expected.isOver());
+    }
+
+    @Property
+    public void testPlayAllPositions(@ForAll(supplier = NewGameSupplier.class) Game game, @ForAll @Size(max = 30) List<@IntRange(min = 1, max = MAX_HOUSES) Integer> moves) {
+        var expected = game.snapshot().toGame();
+        var positions = new ArrayList<String>();
+        int expectedIllegal = -1;
+        for (int n : moves) {
+            var position = expected.player().house((n - 1) % expected.houses() + 1);
+            positions.add(position);
+            if (expected.tryPlay(position) != MoveResult.OK) {
+                expectedIllegal = positions.size() - 1;
+                break;
+            }
+        }
+        if (expectedIllegal < 0) {
+            positions.add("X1");
+            expectedIllegal = positions.size() - 1;
+        }
+
+        assertThat(game.playAll(positions)).isEqualTo(expectedIllegal);
+        assertThat(game).isEqualTo(expected);
+        assertThat(game.positionHash()).isEqualTo(expected.positionHash());
+    }
+
+    @Property
+    public void testPlayAllCanBeUndone(@ForAll(supplier = NewGameSupplier.class) Game game, @ForAll @Size(max = 30) List<@IntRange(min = 1, max = MAX_HOUSES) Integer> moves) {
+        var start = game.snapshot().toGame();
+        game.recordUndo(true);
+        int applied = game.playAll(moves.stream().mapToInt(n -> game.houseIndex(Player.A, (n - 1) % game.houses() + 1)).toArray());
+        int count = applied < 0 ? moves.size() : applied;
+        for (int i = 0; i < count; i++) {
+            game.undo();
+        }
+        assertThat(game.canUndo()).isFalse();
+        assertThat(game).isEqualTo(start);
+        assertThat(game.positionHash()).isEqualTo(start.positionHash());
+    }
+
+    @Property
+    public void testCannotPlayAllWithoutMoves(@ForAll(supplier = NewGameSupplier.class) Game game) {
+        assertThatThrownBy(() -> game.playAll((int[]) null))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> game.playAll((List<String>) null))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(game.playAll(new int[0])).isEqualTo(-1);
+    }
+
+    @Property
+    public void testResetRestoresNewGame(@ForAll(supplier = NewGameSupplier.class) Game game, @ForAll @Size(max = 30) List<@IntRange(min = 1, max = MAX_HOUSES) Integer> moves) {
+        var fresh = new Game(game.houses(), game.seeds());
+        game.recordUndo(true);
+        replay(game, moves);
+
+        game.reset();
+
+        assertThat(game).isEqualTo(fresh).hasSameHashCodeAs(fresh);
+        assertThat(game.pits()).isEqualTo(fresh.pits());
+        assertThat(game.positionHash()).isEqualTo(fresh.positionHash());
+        assertThat(game.isOver()).isFalse();
+        assertThat(game.canUndo()).isFalse();
+    }
+
+    @Property
+    public void testResetToBoard(@ForAll(supplier = NewGameSupplier.class) Game game, @ForAll Player player) {
+        var other = new Game(game.houses(), game.seeds());
+        other.play(other.houseIndex(Player.A, game.houses()));
+        Assume.that(!other.isOver());
+        var board = new int[game.houses() * 2 + 2];
+        other.copyInto(board);
+
+        game.reset(board, player);
+
+        var expected = new Game(board, GameState.WAITING, player);
+        assertThat(game).isEqualTo(expected).hasSameHashCodeAs(expected);
+        assertThat(game.player()).isEqualTo(player);
+        assertThat(game.isOver()).isFalse();
+    }
+
+    @Example
+    public void testResetToFinishedBoard() {
+        var game = new Game(2, 2);
+        game.reset(new int[] { 0, 0, 3, 2, 1, 2 }, Player.A);
+
+        assertThat(game.isOver()).isTrue();
+        assertThat(game.tryPlay(0)).isEqualTo(MoveResult.GAME_OVER);
+        assertThat(game.pits()).containsExactly(
+            entry("A1", 0), entry("A2", 0), entry("SA", 3),
+            entry("B1", 0), entry("B2", 0), entry("SB", 5));
+        assertThat(game.winner()).contains(Player.B);
+    }
+
+    @Property
+    public void testResetToBoardKeepsSeeds(@ForAll(supplier = NewGameSupplier.class) Game game) {
+        int seeds = game.seeds();
+        var board = new int[game.houses() * 2 + 2];
+        board[0] = game.houses() * seeds;
+        board[game.houses() + 1] = game.houses() * seeds;
+
+        game.reset(board, Player.B);
+
+        assertThat(game.seeds()).isEqualTo(seeds);
+        assertThat(game.seedsAt(0)).isEqualTo(board[0]);
+        var fresh = new Game(game.houses(), game.seeds());
+        game.reset();
+        assertThat(game).isEqualTo(fresh);
+    }
+
+    @Property
+    public void testCannotResetToOtherSeedTotal(@ForAll(supplier = NewGameSupplier.class) Game game) {
+        var board = new int[game.houses() * 2 + 2];
+        Arrays.fill(board, 0, game.houses(), game.seeds() * 2);
+        Arrays.fill(board, game.houses() + 1, game.houses() * 2 + 1, game.seeds() * 2);
+        var before = game.snapshot();
+
+        assertThatThrownBy(() -> game.reset(board, Player.A))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(game.seeds()).isEqualTo(before.seeds());
+        assertThat(game).isEqualTo(before.toGame());
+    }
+
+    @Example
+    public void testResetBeyondPackedBoard() {
+        var game = new Game(1, 4);
+        game.copyFrom(new Game(new int[] { 300, 0, 300, 0 }, GameState.WAITING, Player.A));
+        game.play(0);
+        assertThat(game.pits()).containsExactly(
+            entry("A1", 100), entry("SA", 100), entry("B1", 400), entry("SB", 0));
+
+        var other = new Game(1, 4);
+        other.copyFrom(game);
+        assertThat(other).isEqualTo(game).hasSameHashCodeAs(game);
+
+        game.reset();
+        assertThat(game.pits()).containsExactly(
+            entry("A1", 4), entry("SA", 0), entry("B1", 4), entry("SB", 0));
+    }
+
+    @Example
+    public void testResetGameBuiltFromBoard() {
+        var game = new Game(new int[] { 1, 2, 1, 0, 3, 1 }, GameState.WAITING, Player.B);
+        assertThat(game.seeds()).isEqualTo(2);
+
+        game.reset();
+        assertThat(sum(game.pits())).isEqualTo(8);
+        assertThat(game).isEqualTo(new Game(2, 2));
+
+        game.reset(new int[] { 0, 4, 0, 0, 4, 0 }, Player.A);
+        assertThat(game.seeds()).isEqualTo(2);
+        assertThat(sum(game.pits())).isEqualTo(8);
+    }
+
+    @Property
+    public void testResetBatchGame(@ForAll @IntRange(min = 1, max = 8) int houses, @ForAll @IntRange(min = 2, max = 8) int seeds) {
+        var batch = new GameBatch(houses, seeds, 1);
+        batch.play(new int[] { 0 }, new MoveResult[1]);
+        var game = batch.toGame(0);
+        assertThat(game.seeds()).isEqualTo(seeds);
+
+        game.reset();
+        assertThat(sum(game.pits())).isEqualTo(2 * houses * seeds);
+        assertThat(game).isEqualTo(new Game(houses, seeds));
+    }
+
+    @Property
+    public void testCannotResetToDifferentBoard(@ForAll(supplier = NewGameSupplier.class) Game game, @ForAll @IntRange(min = 1, max = MAX_HOUSES) int houses) {
+        Assume.that(houses != game.houses());
+        var board = new int[houses * 2 + 2];
+        Arrays.fill(board, 2);
+        assertThatThrownBy(() -> game.reset(board, Player.A))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> game.reset(null, Player.A))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Property
+    public void testTryPlayMatchesPlay(@ForAll(supplier = NewGameSupplier.class) Game game, @ForAll @Size(max = 50) List<@IntRange(min = -2, max = MAX_HOUSES * 2 + 4) Integer> pits) {
+        for (int pit : pits) {
+            var other = game.snapshot().toGame();
+            MoveResult expected;
+            try {
+                other.play(pit);
+                expected = MoveResult.OK;
+            } catch (NoSuchPositionException e) {
+                expected = MoveResult.UNKNOWN;
+            } catch (GameOverException e) {
+                expected = MoveResult.GAME_OVER;
+            } catch (CannotPlayOnStoreException e) {
+                expected = MoveResult.STORE;
+            } catch (HouseEmptyException e) {
+                expected = MoveResult.EMPTY_HOUSE;
+            } catch (OpponentHouseException e) {
+                expected = MoveResult.NOT_YOUR_HOUSE;
+            }
+
+            assertThat(game.tryPlay(pit)).isEqualTo(expected);
+            assertThat(game).isEqualTo(other);
+        }
+    }
+
+    @Property
+    public void testTryPlayUnknownPosition(@ForAll(supplier = NewGameSupplier.class) Game game, @ForAll("invalidPositions") String position) {
+        assertThat(game.tryPlay(position)).isEqualTo(MoveResult.UNKNOWN);
+    }
+
+    @Property
+    public void testRuleViolationsAreStackless(@ForAll(supplier = NewGameSupplier.class) Game game, @ForAll Player player) {
+        assertThatThrownBy(() -> game.play(player.store()))
+            .isSameAs(CannotPlayOnStoreException.INSTANCE)
+            .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+        assertThatThrownBy(() -> game.play("X"))
+            .isInstanceOf(NoSuchPositionException.class)
+            .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+    }
+
     @Property
     public void testCannotPlayOnUnexistingPosition(@ForAll(supplier = NewGameSupplier.class) Game game, @ForAll("invalidPositions") String position) {
         assertThatThrownBy(() -> game.play(position))
@@ -54,6 +563,47 @@ public class GameTest {
             .isInstanceOf(CannotPlayOnStoreException.class);
     }
 
+    @Property
+    public void testIndexesMatchPositions(@ForAll(supplier = NewGameSupplier.class) Game game, @ForAll Player player) {
+        int houses = game.houses();
+        assertThat(game.storeIndex(player)).isEqualTo(translatePosition(player.store(), houses));
+        assertThat(game.seedsAt(game.storeIndex(player))).isEqualTo(game.pits().get(player.store()));
+        everyHouse(player, houses).forEach(pos -> {
+            int n = Integer.parseInt(pos.substring(1));
+            int pit = game.houseIndex(player, n);
+            assertThat(pit).isEqualTo(translatePosition(pos, houses));
+            assertThat(game.seedsAt(pit)).isEqualTo(game.pits().get(pos));
+        });
+    }
+
+    @Property
+    public void testCannotUseUnexistingIndex(@ForAll(supplier = NewGameSupplier.class) Game game, @ForAll int pit) {
+        Assume.that(pit < 0 || pit >= game.houses() * 2 + 2);
+        assertThatThrownBy(() -> game.play(pit))
+            .isInstanceOf(NoSuchPositionException.class);
+        assertThatThrownBy(() -> game.seedsAt(pit))
+            .isInstanceOf(NoSuchPositionException.class);
+    }
+
+    @Property
+    public void testCannotPlayOnStoreIndex(@ForAll(supplier = NewGameSupplier.class) Game game, @ForAll Player player) {
+        assertThatThrownBy(() -> game.play(game.storeIndex(player)))
+            .isInstanceOf(CannotPlayOnStoreException.class);
+    }
+
+    @Property
+    public void testPlayIndexSameAsPosition(@ForAll(supplier = NewGameSupplier.class) Game game, @ForAll @IntRange(min = 1, max = MAX_HOUSES) int n) {
+        Assume.that(n <= game.houses());
+        var other = new Game(game.houses(), game.pits().get(Player.A.house(1)));
+
+        game.play(Player.A.house(n));
+        other.play(other.houseIndex(Player.A, n));
+
+        assertThat(other.pits()).isEqualTo(game.pits());
+        assertThat(other.player()).isEqualTo(game.player());
+        assertThat(other.isOver()).isEqualTo(game.isOver());
+    }
+
     @Property
     public void testCannotPlayOnEmptyHouse(@ForAll("boards") int[] board, @ForAll Player player, @ForAll @IntRange(min = 1, max = MAX_HOUSES) int n) {
         ensureEmptyHouse(board, player, n);
@@ -82,7 +632,7 @@ public class GameTest {
         Assume.that(!game.isOver());
 
         withInvariants(game, () -> {
-            var before = game.pits();
+            var before = Map.copyOf(game.pits());
             int seeds = before.get(position);
             String endPos = plan(position, game.houses(), seeds);
             Assume.that(before.get(endPos) > 0);
@@ -111,7 +661,7 @@ public class GameTest {
         withInvariants(game, () -> {
             String position = player.house(n);
 
-            var before = game.pits();
+            var before = Map.copyOf(game.pits());
             int seeds = before.get(position);
             game.play(position);
             var after = game.pits();
@@ -142,7 +692,7 @@ public class GameTest {
         Assume.that(!game.isOver());
 
         withInvariants(game, () -> {
-            var before = game.pits();
+            var before = Map.copyOf(game.pits());
             int seeds = before.get(position);
             game.play(position);
             var after = game.pits();
@@ -164,7 +714,7 @@ public class GameTest {
         Assume.that(!game.isOver());
 
         withInvariants(game, () -> {
-            var before = game.pits();
+            var before = Map.copyOf(game.pits());
             int seeds = before.get(position);
             game.play(position);
             var after = game.pits();
@@ -186,7 +736,7 @@ public class GameTest {
         Assume.that(!game.isOver());
 
         withInvariants(game, () -> {
-            var before = game.pits();
+            var before = Map.copyOf(game.pits());
             int seeds = before.get(position);
             String endPos = plan(position, game.houses(), seeds);
             Assume.that(before.get(endPos) > 0);
@@ -214,7 +764,7 @@ public class GameTest {
         Assume.that(!game.isOver());
 
         withInvariants(game, () -> {
-            var before = game.pits();
+            var before = Map.copyOf(game.pits());
             int seeds = before.get(position);
             var endPos = plan(position, game.houses(), seeds);
             Assume.that(before.get(endPos) == 0);
@@ -257,7 +807,7 @@ public class GameTest {
         Assume.that(!game.isOver());
 
         withInvariants(game, () -> {
-            var before = game.pits();
+            var before = Map.copyOf(game.pits());
             int seeds = before.get(position);
             game.play(position);
             var after = game.pits();
@@ -300,7 +850,7 @@ public class GameTest {
             String position = player.house(houses);
             String storePos = player.store();
 
-            var before = game.pits();
+            var before = Map.copyOf(game.pits());
             game.play(position);
             var after = game.pits();
             
@@ -328,7 +878,7 @@ public class GameTest {
             String position = player.house(houses);
             String storePos = player.store();
 
-            var before = game.pits();
+            var before = Map.copyOf(game.pits());
             int seeds = before.get(position);
             game.play(position);
             var after = game.pits();
@@ -357,7 +907,7 @@ public class GameTest {
         withInvariants(game, () -> {
             String position = player.house(n);
 
-            var before = game.pits();
+            var before = Map.copyOf(game.pits());
             int seeds = before.get(position);
             String endPos = plan(position, game.houses(), seeds);
             String capturedPos = oppositeOf(endPos, game.houses());
@@ -393,7 +943,7 @@ public class GameTest {
         withInvariants(game, () -> {
             String position = player.house(houses);
 
-            var before = game.pits();
+            var before = Map.copyOf(game.pits());
             int seeds = before.get(position);
             String endPos = plan(position, game.houses(), seeds);
             String capturedPos = oppositeOf(endPos, game.houses());
@@ -427,7 +977,7 @@ public class GameTest {
         Assume.that(!game.isOver());
 
         withInvariants(game, () -> {
-            var before = game.pits();
+            var before = Map.copyOf(game.pits());
             String startPos = player.house(n);
             int seeds = before.get(startPos);
             String endPos = plan(startPos, game.houses(), seeds);
@@ -3,9 +3,13 @@ package net.alexmiranda.kalah;
 import static net.alexmiranda.kalah.Kalah.backwardSequence;
 import static net.alexmiranda.kalah.Kalah.everyHouse;
 import static net.alexmiranda.kalah.Kalah.forwardSequence;
+import static net.alexmiranda.kalah.Kalah.houseIndexes;
+import static net.alexmiranda.kalah.Kalah.indexOf;
 import static net.alexmiranda.kalah.Kalah.oppositeOf;
 import static net.alexmiranda.kalah.Kalah.plan;
+import static net.alexmiranda.kalah.Kalah.positionOf;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -101,4 +105,72 @@ public class KalahTest {
             );
         }
     }
+
+    @ParameterizedTest
+    @CsvFileSource(resources = "/plan.csv")
+    public void testPlanIndex(String start, int houses, int seeds, String expectedEnd) {
+        int end = plan(indexOf(start, houses), houses, seeds);
+        assertThat(positionOf(end, houses)).isEqualTo(expectedEnd);
+    }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+        1,'A1','B1'
+        2,'B1','A2'
+        3,'A2','B2'
+        3,'A3','B1'
+    """)
+    public void testOppositeOfIndex(int n, String position, String opposite) {
+        assertThat(oppositeOf(indexOf(position, n), n)).isEqualTo(indexOf(opposite, n));
+    }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+        1,'A1 SA B1 SB'
+        3,'A1 A2 A3 SA B1 B2 B3 SB'
+    """)
+    public void testIndexOf(int houses, String positions) {
+        var expected = positions.split(" ");
+        for (int i = 0; i < expected.length; i++) {
+            assertThat(indexOf(expected[i], houses)).isEqualTo(i);
+            assertThat(positionOf(i, houses)).isEqualTo(expected[i]);
+        }
+        assertThat(indexOf("A" + (houses + 1), houses)).isEqualTo(-1);
+        assertThat(indexOf("SC", houses)).isEqualTo(-1);
+    }
+
+    @Test
+    public void testHouseIndexes() {
+        int houses = 6;
+        assertThat(houseIndexes(houses).mapToObj(pit -> positionOf(pit, houses)))
+            .containsExactlyInAnyOrderElementsOf(everyHouse(houses).collect(Collectors.toList()));
+        for (Player p : Player.values()) {
+            assertThat(houseIndexes(p, houses).mapToObj(pit -> positionOf(pit, houses)))
+                .containsExactlyElementsOf(everyHouse(p, houses).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testForwardBackwardSequenceIndexes() {
+        int houses = 6;
+        for (Player p : Player.values()) {
+            for (int n = 1; n <= houses; n++) {
+                var start = p.house(n);
+                int pit = indexOf(start, houses);
+                assertThat(forwardSequence(pit, houses).limit(30).mapToObj(i -> positionOf(i, houses)))
+                    .containsExactlyElementsOf(forwardSequence(start, houses).limit(30).collect(Collectors.toList()));
+                assertThat(backwardSequence(pit, houses).limit(30).mapToObj(i -> positionOf(i, houses)))
+                    .containsExactlyElementsOf(backwardSequence(start, houses).limit(30).collect(Collectors.toList()));
+            }
+        }
+    }
+
+    @Test
+    public void testCannotStartOnStore() {
+        for (Player p : Player.values()) {
+            assertThatThrownBy(() -> plan(p.store(), 6, 1)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> forwardSequence(p.store(), 6)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> plan(indexOf(p.store(), 6), 6, 1)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
 }
@@ -0,0 +1,126 @@
+package net.alexmiranda.kalah;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.LongRange;
+import net.jqwik.api.constraints.Size;
+
+public class LongGameTest {
+    @Property
+    public void testMatchesGame(@ForAll(supplier = NewGameSupplier.class) Game game, @ForAll @Size(max = 80) List<@IntRange(min = -1, max = GameTest.MAX_HOUSES * 2 + 3) Integer> pits) {
+        var sut = new LongGame(game.houses(), game.seeds());
+        for (int pit : pits) {
+            assertThat(sut.tryPlay(pit)).isEqualTo(game.tryPlay(pit));
+            assertSame(sut, game);
+        }
+    }
+
+    @Property
+    public void testMatchesGameExceptions(@ForAll(supplier = NewGameSupplier.class) Game game, @ForAll @Size(max = 80) List<@IntRange(min = -1, max = GameTest.MAX_HOUSES * 2 + 3) Integer> pits) {
+        var sut = new LongGame(game.houses(), game.seeds());
+        for (int pit : pits) {
+            Class<?> expected = null;
+            try {
+                game.play(pit);
+            } catch (RuntimeException e) {
+                expected = e.getClass();
+            }
+            if (expected == null) {
+                sut.play(pit);
+            } else {
+                assertThatThrownBy(() -> sut.play(pit)).isInstanceOf(expected);
+            }
+            assertSame(sut, game);
+        }
+    }
+
+    @Example
+    public void testSowBillionsOfSeeds() {
+        long seeds = 3_000_000_000L;
+        var game = new LongGame(6, seeds);
+        long laps = seeds / 13;
+        int left = (int) (seeds % 13);
+
+        game.play("A1");
+
+        assertThat(game.seedsAt(0)).isEqualTo(laps);
+        for (int pit = 1; pit < 13; pit++) {
+            long initial = pit == 6 ? 0 : seeds;
+            long sown = pit <= left ? laps + 1 : laps;
+            assertThat(game.seedsAt(pit)).isEqualTo(initial + sown);
+        }
+        assertThat(game.seedsAt(13)).isZero();
+        assertThat(total(game)).isEqualTo(12 * seeds);
+    }
+
+    @Property(tries = 50)
+    public void testPlayHugeGames(@ForAll @IntRange(min = 1, max = 12) int houses, @ForAll @LongRange(min = 1_000_000_000L, max = 100_000_000_000_000L) long seeds, @ForAll long seed) {
+        var random = new SplittableRandom(seed);
+        var game = new LongGame(houses, seeds);
+        long total = 2 * houses * seeds;
+        for (int moves = 0; moves < 10_000 && !game.isOver(); moves++) {
+            int n = 1 + random.nextInt(houses);
+            game.tryPlay(game.houseIndex(game.player(), n));
+            assertThat(total(game)).isEqualTo(total);
+        }
+        if (game.isOver()) {
+            long a = game.seedsAt(game.storeIndex(Player.A));
+            long b = game.seedsAt(game.storeIndex(Player.B));
+            assertThat(a + b).isEqualTo(total);
+            assertThat(game.winner().isPresent()).isEqualTo(a != b);
+        }
+    }
+
+    @Example
+    public void testFinishedBoard() {
+        var game = new LongGame(new long[] { 0, 0, 3, 2, 1, 2 }, Player.A);
+        assertThat(game.isOver()).isTrue();
+        assertThat(game.winner()).contains(Player.B);
+        assertThat(game.pits()).containsEntry("SB", 5L).containsEntry("B1", 0L);
+        assertThat(game.tryPlay(3)).isEqualTo(MoveResult.GAME_OVER);
+        assertThatThrownBy(() -> game.play(3)).isInstanceOf(GameOverException.class);
+    }
+
+    @Example
+    public void testCannotOverflow() {
+        assertThatThrownBy(() -> new LongGame(6, Long.MAX_VALUE / 12 + 1))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LongGame(new long[] { Long.MAX_VALUE, 0, 1, 0 }, Player.A))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(new LongGame(6, Long.MAX_VALUE / 12).seeds()).isEqualTo(Long.MAX_VALUE / 12);
+    }
+
+    @Property
+    public void testCannotCreateInvalidGame(@ForAll @IntRange(max = 0) int houses, @ForAll @LongRange(max = 0) long seeds) {
+        assertThatThrownBy(() -> new LongGame(houses, 4)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LongGame(6, seeds)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LongGame(1, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void assertSame(LongGame sut, Game game) {
+        for (var entry : game.pits().entrySet()) {
+            assertThat(sut.pits().get(entry.getKey())).isEqualTo(entry.getValue().longValue());
+        }
+        assertThat(sut.player()).isEqualTo(game.player());
+        assertThat(sut.isOver()).isEqualTo(game.isOver());
+        assertThat(sut.winner()).isEqualTo(game.winner());
+    }
+
+    private static long total(LongGame game) {
+        var pits = new long[game.houses() * 2 + 2];
+        game.copyInto(pits);
+        long total = 0;
+        for (long seeds : pits) {
+            total += seeds;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,161 @@
+package net.alexmiranda.kalah;
+
+import static net.alexmiranda.kalah.SearcherTest.randomGame;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import net.alexmiranda.kalah.TestSupport.TickingClock;
+import net.jqwik.api.Assume;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.lifecycle.AfterContainer;
+
+public class MonteCarloSearcherTest {
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(4);
+
+    @AfterContainer
+    static void shutDown() {
+        EXECUTOR.shutdownNow();
+    }
+
+    @Property(tries = 50)
+    public void testVisitsAddUp(@ForAll @IntRange(min = 1, max = 6) int houses, @ForAll @IntRange(min = 1, max = 6) int seeds, @ForAll @IntRange(max = 10) int moves, @ForAll @IntRange(min = 1, max = 4) int threads, @ForAll long seed) {
+        Assume.that(houses > 1 || seeds > 1);
+        var game = randomGame(houses, seeds, moves, new SplittableRandom(seed));
+        Assume.that(!game.isOver());
+
+        var searcher = new MonteCarloSearcher(game, 1 << 12, seed);
+        int move = searcher.search(500, Duration.ofMinutes(1), threads, EXECUTOR);
+
+        assertThat(game.copy().tryPlay(move)).isEqualTo(MoveResult.OK);
+        assertThat(searcher.playouts()).isEqualTo(500);
+        long visits = 0;
+        for (int n = 1; n <= houses; n++) {
+            int pit = game.houseIndex(game.player(), n);
+            visits += searcher.visits(pit);
+            assertThat(searcher.winRate(pit)).isBetween(0.0, 1.0);
+            assertThat(searcher.visits(pit)).isLessThanOrEqualTo(searcher.visits(move));
+        }
+        assertThat(visits).isEqualTo(500);
+        assertThat(searcher.size()).isLessThanOrEqualTo(1 << 12);
+    }
+
+    @Example
+    public void testFindsExtraTurnWin() {
+        // A2 ends in SA, and A1 on the extra turn captures B1's 3 seeds;
+        // A1 first loses
+        var game = new Game(new int[] { 1, 1, 0, 3, 0, 3 }, GameState.WAITING, Player.A);
+        var searcher = new MonteCarloSearcher(game, 42);
+
+        assertThat(searcher.search(2000, Duration.ofMinutes(1))).isEqualTo(1);
+        assertThat(searcher.winRate(1)).isEqualTo(1.0);
+    }
+
+    @Example
+    public void testSameSeedSameTree() {
+        var game = new Game(6, 4);
+        var first = new MonteCarloSearcher(game, 7);
+        var second = new MonteCarloSearcher(game, 7);
+        first.search(3000, Duration.ofMinutes(1));
+        second.search(3000, Duration.ofMinutes(1));
+
+        assertThat(second.size()).isEqualTo(first.size());
+        for (int pit = 0; pit < 6; pit++) {
+            assertThat(second.visits(pit)).isEqualTo(first.visits(pit));
+        }
+    }
+
+    @Example
+    public void testReusesSubtree() {
+        var searcher = new MonteCarloSearcher(new Game(6, 4), 1);
+        int move = searcher.search(5000, Duration.ofMinutes(1));
+        long visits = searcher.visits(move);
+
+        searcher.advance(move);
+
+        assertThat(searcher.playouts()).isEqualTo(visits);
+        assertThat(searcher.size()).isGreaterThan(1);
+        searcher.search(1000, Duration.ofMinutes(1));
+        assertThat(searcher.playouts()).isEqualTo(visits + 1000);
+    }
+
+    @Example
+    public void testAdvanceOutsideTreeStartsOver() {
+        var searcher = new MonteCarloSearcher(new Game(6, 4), 1);
+        searcher.advance(0);
+
+        assertThat(searcher.playouts()).isZero();
+        assertThat(searcher.size()).isEqualTo(1);
+        assertThat(searcher.search(100, Duration.ofMinutes(1))).isBetween(7, 12);
+    }
+
+    @Example
+    public void testSmallPool() {
+        var searcher = new MonteCarloSearcher(new Game(6, 4), 20, 1);
+        for (int i = 0; i < 5; i++) {
+            searcher.advance(searcher.search(300, Duration.ofMinutes(1), 2, EXECUTOR));
+            assertThat(searcher.size()).isLessThanOrEqualTo(20);
+        }
+    }
+
+    @Example
+    public void testStopsAtDeadline() {
+        var clock = new TickingClock(Duration.ofMillis(1));
+        var game = new Game(6, 6);
+        var searcher = new MonteCarloSearcher(game, 1 << 16, 1, clock);
+
+        // the budget never runs out, so only the deadline can end the search:
+        // one read sets it, the 19 reads before it each allow a playout, and
+        // the first read at the deadline stops its thread and then the other
+        int move = searcher.search(Long.MAX_VALUE, Duration.ofMillis(20), 2, EXECUTOR);
+
+        assertThat(searcher.playouts()).isEqualTo(19);
+        assertThat(clock.reads()).isEqualTo(22);
+        assertThat(game.copy().tryPlay(move)).isEqualTo(MoveResult.OK);
+    }
+
+    @Example
+    public void testStopsNearDeadline() {
+        var searcher = new MonteCarloSearcher(new Game(6, 6), 1);
+
+        long started = System.nanoTime();
+        searcher.search(Long.MAX_VALUE, Duration.ofMillis(20), 2, EXECUTOR);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofMillis(20).plusSeconds(1));
+        assertThat(searcher.playouts()).isPositive();
+    }
+
+    @Example
+    public void testInvalidArguments() {
+        var searcher = new MonteCarloSearcher(new Game(6, 4), 1);
+        assertThatThrownBy(() -> new MonteCarloSearcher(null, 1))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new MonteCarloSearcher(new Game(6, 4), 6, 1))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> searcher.search(0, Duration.ofMillis(1)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> searcher.search(1, Duration.ofMillis(-1)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> searcher.search(1, Duration.ofMillis(1), 0))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> searcher.advance(6))
+            .isInstanceOf(CannotPlayOnStoreException.class);
+    }
+
+    @Example
+    public void testCannotSearchFinishedGame() {
+        var game = new Game(new int[] { 0, 1, 0, 1, 0, 2 }, GameState.WAITING, Player.A);
+        var searcher = new MonteCarloSearcher(game, 1);
+        searcher.advance(1);
+
+        assertThatThrownBy(() -> searcher.search(10, Duration.ofMillis(1)))
+            .isInstanceOf(GameOverException.class);
+    }
+}
@@ -0,0 +1,169 @@
+package net.alexmiranda.kalah;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Assume;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import net.jqwik.api.constraints.IntRange;
+
+public class PackedBoardTest {
+    @Property
+    public void testSmallBoardsArePacked(@ForAll("boards") int[] pits) {
+        assertThat(Board.of(pits)).isInstanceOf(PackedBoard.class);
+    }
+
+    @Example
+    public void testLargeBoardsAreNotPacked() {
+        assertThat(Board.of(new int[] { 6, 6, 6, 6, 6, 6, 0, 6, 6, 6, 6, 6, 6, 0 })).isInstanceOf(PackedBoard.class);
+        assertThat(Board.of(new int[] { 128, 0, 0, 128 })).isInstanceOf(IntBoard.class);
+        assertThat(Board.of(new int[18])).isInstanceOf(IntBoard.class);
+    }
+
+    @Property
+    public void testMatchesIntBoard(@ForAll("boards") int[] pits, @ForAll("operations") int[] operations) {
+        var packed = Board.of(pits);
+        var expected = new IntBoard(pits);
+        assertSameAs(packed, expected);
+
+        // plays the same moves on both boards, capturing and sweeping like a game would
+        var player = Player.A;
+        for (int op : operations) {
+            int pit = expected.house(player, Math.floorMod(op, expected.houses()) + 1);
+            if (expected.seeds(pit) == 0) {
+                player = player.opponent();
+                continue;
+            }
+            int seeds = expected.yield(pit, player);
+            assertThat(packed.yield(pit, player)).isEqualTo(seeds);
+
+            int last = expected.sowFrom(pit, player, seeds);
+            assertThat(packed.sowFrom(pit, player, seeds)).isEqualTo(last);
+            if (!expected.isStore(last) && expected.owner(last) == player && expected.seeds(last) == 1) {
+                int captured = expected.capture(last, player);
+                assertThat(packed.capture(last, player)).isEqualTo(captured);
+                expected.deposit(player, captured);
+                packed.deposit(player, captured);
+            }
+            if (expected.isRowEmpty(Player.A) || expected.isRowEmpty(Player.B)) {
+                for (Player p : Player.values()) {
+                    assertThat(packed.sweep(p)).isEqualTo(expected.sweep(p));
+                }
+            }
+            assertSameAs(packed, expected);
+            player = last == expected.store(player) ? player : player.opponent();
+        }
+    }
+
+    @Property
+    public void testUnsowReversesSowFrom(@ForAll("boards") int[] pits, @ForAll Player player, @ForAll @IntRange(min = 1, max = 7) int n) {
+        var board = Board.of(pits);
+        Assume.that(n <= board.houses());
+        int pit = board.house(player, n);
+        int seeds = board.yield(pit, player);
+        board.sowFrom(pit, player, seeds);
+
+        board.unsow(pit, player, seeds);
+        assertSameAs(board, new IntBoard(pits));
+    }
+
+    @Property
+    public void testUncaptureReversesCapture(@ForAll("boards") int[] pits, @ForAll Player player, @ForAll @IntRange(min = 1, max = 7) int n) {
+        Assume.that(n <= pits.length / 2 - 1);
+        var landed = pits.clone();
+        int pit = Board.of(pits).house(player, n);
+        landed[pit] = 1; // as if the last seed of a move had landed there
+        var board = Board.of(landed);
+        Assume.that(board instanceof PackedBoard);
+        var expected = board.copy();
+
+        int captured = board.seeds(board.opposite(pit));
+        board.deposit(player, board.capture(pit, player));
+        board.uncapture(pit, player, captured);
+
+        assertSameAs(board, expected);
+    }
+
+    @Property
+    public void testUnsweepReversesSweep(@ForAll("boards") int[] pits) {
+        var board = Board.of(pits);
+        var log = new UndoLog();
+        board.saveRow(Player.A, log);
+        board.saveRow(Player.B, log);
+        board.sweep(Player.A);
+        board.sweep(Player.B);
+        assertThat(board.isRowEmpty(Player.A)).isTrue();
+        assertThat(board.isRowEmpty(Player.B)).isTrue();
+
+        board.unsweep(Player.B, log);
+        board.unsweep(Player.A, log);
+
+        assertThat(log.isEmpty()).isTrue();
+        assertSameAs(board, new IntBoard(pits));
+    }
+
+    @Property
+    public void testFill(@ForAll @IntRange(min = 1, max = 7) int houses, @ForAll @IntRange(max = 18) int seeds) {
+        Assume.that(houses * seeds * 2 <= PackedBoard.MAX_SEEDS);
+        var board = Board.of(new int[houses * 2 + 2]);
+        var expected = new IntBoard(new int[houses * 2 + 2]);
+        board.fill(seeds);
+        expected.fill(seeds);
+        assertSameAs(board, expected);
+    }
+
+    @Property
+    public void testCannotOverflowLanes(@ForAll @IntRange(min = 1, max = 7) int houses) {
+        var board = Board.of(new int[houses * 2 + 2]);
+        var pits = new int[houses * 2 + 2];
+        pits[0] = PackedBoard.MAX_SEEDS + 1;
+        assertThat(board.canHold(PackedBoard.MAX_SEEDS + 1)).isFalse();
+        assertThatThrownBy(() -> board.load(pits))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> board.fill(PackedBoard.MAX_SEEDS / houses))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Property
+    public void testCopyIsIndependent(@ForAll("boards") int[] pits) {
+        var board = Board.of(pits);
+        var copy = board.copy();
+        board.sweep(Player.A);
+        board.sweep(Player.B);
+        assertSameAs(copy, new IntBoard(pits));
+    }
+
+    private static void assertSameAs(Board actual, Board expected) {
+        var actualPits = new int[expected.length()];
+        var expectedPits = new int[expected.length()];
+        actual.copyInto(actualPits);
+        expected.copyInto(expectedPits);
+        assertThat(actualPits).containsExactly(expectedPits);
+        assertThat(actual.hash()).isEqualTo(expected.hash());
+        assertThat(actual.mirrorHash()).isEqualTo(expected.mirrorHash());
+        assertThat(actual.sameSeeds(expected)).isTrue();
+        assertThat(expected.sameSeeds(actual)).isTrue();
+        for (Player player : Player.values()) {
+            assertThat(actual.isRowEmpty(player)).isEqualTo(expected.isRowEmpty(player));
+        }
+    }
+
+    @Provide
+    public Arbitrary<int[]> operations() {
+        return Arbitraries.integers().array(int[].class).ofMaxSize(50);
+    }
+
+    @Provide
+    public Arbitrary<int[]> boards() {
+        return Arbitraries.integers().between(1, PackedBoard.MAX_HOUSES).flatMap(houses ->
+            Arbitraries.integers()
+                .between(0, PackedBoard.MAX_SEEDS / (houses * 2 + 2))
+                .array(int[].class)
+                .ofSize(houses * 2 + 2));
+    }
+}
@@ -0,0 +1,218 @@
+package net.alexmiranda.kalah;
+
+import static net.alexmiranda.kalah.SearcherTest.randomGame;
+import static net.alexmiranda.kalah.SearcherTest.solve;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import net.alexmiranda.kalah.TestSupport.TickingClock;
+import net.jqwik.api.Assume;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.lifecycle.AfterContainer;
+
+public class ParallelSearcherTest {
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(4);
+
+    @AfterContainer
+    static void shutDown() {
+        EXECUTOR.shutdownNow();
+    }
+
+    @Property(tries = 50)
+    public void testSolvesSmallGames(@ForAll @IntRange(min = 1, max = 3) int houses, @ForAll @IntRange(min = 1, max = 2) int seeds, @ForAll @IntRange(max = 6) int moves, @ForAll @IntRange(min = 1, max = 4) int threads, @ForAll long seed) {
+        Assume.that(houses > 1 || seeds > 1);
+        var game = randomGame(houses, seeds, moves, new SplittableRandom(seed));
+        Assume.that(!game.isOver());
+
+        var searcher = new ParallelSearcher(4, 8, EXECUTOR);
+        var result = searcher.search(game, Duration.ofSeconds(10), threads).join();
+
+        assertThat(result.score()).isEqualTo(solve(game));
+        assertThat(result.depth()).isEqualTo(Searcher.MAX_DEPTH);
+    }
+
+    @Example
+    public void testCancel() {
+        var searcher = new ParallelSearcher(4, 16, EXECUTOR);
+        var game = new Game(6, 6);
+
+        var handle = searcher.search(game, Duration.ofMinutes(1));
+        long started = System.nanoTime();
+        handle.cancel();
+        var result = handle.join();
+
+        // well short of the limit, however slow the machine
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(30));
+        assertThat(result.depth()).isPositive();
+        assertThat(game.copy().tryPlay(result.move())).isEqualTo(MoveResult.OK);
+    }
+
+    @Example
+    public void testStopsAtDeadline() throws InterruptedException {
+        var clock = new TickingClock(Duration.ofMillis(1));
+        var pool = Executors.newFixedThreadPool(4);
+        var searcher = new ParallelSearcher(4, 16, pool, clock);
+        var game = new Game(6, 6);
+
+        var result = searcher.search(game, Duration.ofMillis(20)).join();
+
+        // 21 reads reach the deadline, then each thread stops within a few more
+        assertThat(clock.reads()).isBetween(21L, 21L + 3 * 4);
+        assertThat(result.depth()).isBetween(1, Searcher.MAX_DEPTH - 1);
+        assertThat(game.copy().tryPlay(result.move())).isEqualTo(MoveResult.OK);
+        pool.shutdown();
+        assertThat(pool.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Example
+    public void testStopsNearDeadline() {
+        var searcher = new ParallelSearcher(4, 16, EXECUTOR);
+        var game = new Game(6, 6);
+
+        long started = System.nanoTime();
+        var result = searcher.search(game, Duration.ofMillis(30)).join();
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofMillis(30).plusSeconds(1));
+        assertThat(game.copy().tryPlay(result.move())).isEqualTo(MoveResult.OK);
+    }
+
+    @Example
+    public void testDefaultPool() {
+        var game = new Game(6, 4);
+        ParallelSearcher closed;
+        try (var searcher = new ParallelSearcher(2)) {
+            var result = searcher.search(game, Duration.ofMillis(20)).join();
+
+            assertThat(result.depth()).isPositive();
+            assertThat(game.copy().tryPlay(result.move())).isEqualTo(MoveResult.OK);
+            closed = searcher;
+        }
+
+        assertThatThrownBy(() -> closed.search(game, Duration.ofMillis(20)))
+            .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Example
+    public void testCloseLeavesCallersExecutor() {
+        var searcher = new ParallelSearcher(2, 16, EXECUTOR);
+        searcher.close();
+
+        var result = searcher.search(new Game(6, 4), Duration.ofMillis(20)).join();
+
+        assertThat(result.depth()).isPositive();
+        assertThat(EXECUTOR.isShutdown()).isFalse();
+    }
+
+    @Example
+    public void testHelperFailureIsNotFatal() {
+        var main = new SearchResult(6, new int[] { 2 }, 3, 4, 100);
+        var handle = new SearchHandle(3);
+
+        handle.complete(1, null, new IllegalStateException("helper"));
+        handle.complete(0, main, null);
+        assertThat(handle.isDone()).isFalse();
+        handle.complete(2, new SearchResult(6, new int[] { 1 }, 2, 3, 50), null);
+
+        assertThat(handle.join()).isSameAs(main);
+    }
+
+    @Example
+    public void testMainFailureIsFatal() {
+        var handle = new SearchHandle(2);
+
+        handle.complete(1, new SearchResult(6, new int[] { 1 }, 2, 3, 50), null);
+        handle.complete(0, null, new IllegalStateException("main"));
+
+        assertThatThrownBy(handle::join)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("main");
+    }
+
+    @Example
+    public void testPoolIsBounded() {
+        var pool = ParallelSearcher.pool(2);
+        var searcher = new ParallelSearcher(2, 16, pool);
+        var game = new Game(6, 4);
+
+        var first = searcher.search(game, Duration.ofMillis(20));
+        var second = searcher.search(game, Duration.ofMillis(20));
+        first.join();
+        second.join();
+
+        assertThat(pool.getLargestPoolSize()).isEqualTo(2);
+        pool.shutdownNow();
+    }
+
+    @Example
+    public void testCallerMayKeepPlaying() {
+        var searcher = new ParallelSearcher(2, 16, EXECUTOR);
+        var game = new Game(6, 4);
+        var before = game.copy();
+
+        var handle = searcher.search(game, Duration.ofMillis(20));
+        game.play("A1");
+        var result = handle.join();
+
+        assertThat(before.copy().tryPlay(result.move())).isEqualTo(MoveResult.OK);
+    }
+
+    @Example
+    public void testTableIsConsistentUnderContention() {
+        var table = new TranspositionTable(6);
+        var writers = new CompletableFuture<?>[4];
+        for (int t = 0; t < writers.length; t++) {
+            long seed = t;
+            writers[t] = CompletableFuture.runAsync(() -> {
+                var random = new SplittableRandom(seed);
+                for (int i = 0; i < 200_000; i++) {
+                    // every field is derived from the key, so a mixed-up entry shows
+                    long key = random.nextLong();
+                    int house = (int) (key >>> 40) & 0xffff;
+                    long data = table.probe(key);
+                    if (data != 0) {
+                        assertThat(TranspositionTable.score(data)).isEqualTo((int) (key >>> 7));
+                        assertThat(TranspositionTable.house(data)).isEqualTo(house);
+                    }
+                    table.store(key, house, (int) key & 0xff, TranspositionTable.EXACT, (int) (key >>> 7));
+                    key = random.nextInt(1 << 10); // a small set, so probes often hit
+                    data = table.probe(key);
+                    if (data != 0) {
+                        assertThat(TranspositionTable.score(data)).isEqualTo((int) (key >>> 7));
+                        assertThat(TranspositionTable.depth(data)).isEqualTo((int) key & 0xff);
+                    }
+                    table.store(key, 0, (int) key & 0xff, TranspositionTable.LOWER, (int) (key >>> 7));
+                }
+            }, EXECUTOR);
+        }
+        CompletableFuture.allOf(writers).join();
+    }
+
+    @Example
+    public void testInvalidArguments() {
+        var searcher = new ParallelSearcher(2, 8, EXECUTOR);
+        var game = new Game(6, 4);
+        assertThatThrownBy(() -> new ParallelSearcher(0))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ParallelSearcher(2, 8, null))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> searcher.search(game, Duration.ofMillis(1), 3))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> searcher.search(game, Duration.ofMillis(1), 0))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> searcher.search(null, Duration.ofMillis(1)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> searcher.search(new Game(new int[] { 0, 3, 0, 1 }, GameState.FINISHED, Player.A), Duration.ofMillis(1)))
+            .isInstanceOf(GameOverException.class);
+    }
+}
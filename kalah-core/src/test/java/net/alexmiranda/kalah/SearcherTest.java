@@ -0,0 +1,163 @@
+package net.alexmiranda.kalah;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+
+import net.alexmiranda.kalah.TestSupport.TickingClock;
+import net.jqwik.api.Assume;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+
+public class SearcherTest {
+    @Property(tries = 200)
+    public void testSolvesSmallGames(@ForAll @IntRange(min = 1, max = 3) int houses, @ForAll @IntRange(min = 1, max = 2) int seeds, @ForAll @IntRange(max = 6) int moves, @ForAll long seed) {
+        Assume.that(houses > 1 || seeds > 1);
+        var game = randomGame(houses, seeds, moves, new SplittableRandom(seed));
+        Assume.that(!game.isOver());
+
+        var result = new Searcher(4).search(game, Searcher.MAX_DEPTH);
+
+        assertThat(result.score()).isEqualTo(solve(game));
+        var next = game.copy();
+        next.play(result.move());
+        int value = next.isOver() ? margin(next, game.player())
+            : next.player() == game.player() ? solve(next) : -solve(next);
+        assertThat(value).isEqualTo(result.score());
+    }
+
+    @Property(tries = 50)
+    public void testPrincipalVariationIsPlayable(@ForAll @IntRange(min = 2, max = 6) int houses, @ForAll @IntRange(min = 1, max = 6) int seeds, @ForAll @IntRange(min = 1, max = 6) int depth, @ForAll @IntRange(max = 10) int moves, @ForAll long seed) {
+        var game = randomGame(houses, seeds, moves, new SplittableRandom(seed));
+        Assume.that(!game.isOver());
+
+        var result = new Searcher(12).search(game, depth);
+
+        int[] pv = result.principalVariation();
+        assertThat(pv).isNotEmpty().hasSizeLessThanOrEqualTo(depth);
+        assertThat(pv[0]).isEqualTo(result.move());
+        assertThat(result.move()).isEqualTo(game.houseIndex(game.player(), result.house()));
+        assertThat(result.depth()).isEqualTo(depth);
+        var line = game.copy();
+        for (int pit : pv) {
+            assertThat(line.tryPlay(pit)).isEqualTo(MoveResult.OK);
+        }
+    }
+
+    @Example
+    public void testSearchLeavesGameUntouched() {
+        var game = new Game(6, 4);
+        game.play("A3");
+        var before = game.copy();
+
+        new Searcher().search(game, 6);
+
+        assertThat(game).isEqualTo(before);
+        assertThat(game.canUndo()).isFalse();
+    }
+
+    @Example
+    public void testExtraTurnKeepsSide() {
+        // A2 ends in SA, and A1 on the extra turn captures B1's 3 seeds,
+        // ending the game 5 to 3
+        var game = new Game(new int[] { 1, 1, 0, 3, 0, 3 }, GameState.WAITING, Player.A);
+
+        var result = new Searcher().search(game, 4);
+
+        assertThat(result.principalVariation()).containsExactly(1, 0);
+        assertThat(result.score()).isEqualTo(solve(game));
+    }
+
+    @Example
+    public void testStopsAtDeadline() {
+        var clock = new TickingClock(Duration.ofMillis(1));
+        var searcher = new Searcher(new TranspositionTable(18), clock);
+        var game = new Game(6, 6);
+
+        var result = searcher.search(game, Duration.ofMillis(20));
+
+        // one read sets the deadline and the 21st reaches it; a read at the
+        // end of the iteration and one while unwinding may follow
+        assertThat(clock.reads()).isBetween(21L, 23L);
+        assertThat(result.depth()).isBetween(1, Searcher.MAX_DEPTH - 1);
+        assertThat(game.copy().tryPlay(result.move())).isEqualTo(MoveResult.OK);
+    }
+
+    @Example
+    public void testStopsNearDeadline() {
+        var searcher = new Searcher();
+        var game = new Game(6, 6);
+        searcher.search(game, Duration.ofMillis(50)); // warm up
+
+        long started = System.nanoTime();
+        var result = searcher.search(game, Duration.ofMillis(20));
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofMillis(20).plusSeconds(1));
+        assertThat(result.depth()).isPositive();
+    }
+
+    @Example
+    public void testExpiredDeadlineStillFindsMove() {
+        var result = new Searcher().search(new Game(6, 4), Duration.ZERO);
+
+        assertThat(result.depth()).isEqualTo(1);
+        assertThat(result.principalVariation()).hasSize(1);
+    }
+
+    @Example
+    public void testCannotSearchFinishedGame() {
+        var game = new Game(new int[] { 0, 3, 0, 1 }, GameState.FINISHED, Player.A);
+        assertThatThrownBy(() -> new Searcher().search(game, 3))
+            .isInstanceOf(GameOverException.class);
+    }
+
+    @Example
+    public void testInvalidArguments() {
+        var searcher = new Searcher(4);
+        var game = new Game(6, 4);
+        assertThatThrownBy(() -> new Searcher(0))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> searcher.search(null, 3))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> searcher.search(game, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> searcher.search(game, Searcher.MAX_DEPTH + 1))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> searcher.search(game, Duration.ofMillis(-1)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    static Game randomGame(int houses, int seeds, int moves, SplittableRandom random) {
+        var game = new Game(houses, seeds);
+        var legal = new int[houses];
+        for (int i = 0; i < moves && !game.isOver(); i++) {
+            int count = game.legalMoves(legal);
+            game.play(legal[random.nextInt(count)]);
+        }
+        return game;
+    }
+
+    // plain minimax to the end of the game, copying instead of undoing
+    static int solve(Game game) {
+        var player = game.player();
+        var legal = new int[game.houses()];
+        int count = game.legalMoves(legal);
+        int best = Integer.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            var next = game.copy();
+            next.play(legal[i]);
+            int value = next.isOver() ? margin(next, player)
+                : next.player() == player ? solve(next) : -solve(next);
+            best = Math.max(best, value);
+        }
+        return best;
+    }
+
+    static int margin(Game game, Player player) {
+        return game.seedsAt(game.storeIndex(player)) - game.seedsAt(game.storeIndex(player.opponent()));
+    }
+}
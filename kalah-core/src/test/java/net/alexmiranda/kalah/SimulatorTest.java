@@ -0,0 +1,85 @@
+package net.alexmiranda.kalah;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+
+public class SimulatorTest {
+    @Property(tries = 20)
+    public void testResultsAddUp(@ForAll(supplier = NewGameSupplier.class) Game game, @ForAll @IntRange(max = 2000) int games, @ForAll long seed) {
+        var result = new Simulator(game.snapshot()).run(games, seed);
+
+        assertThat(result.games()).isEqualTo(games);
+        assertThat(result.wins(Player.A) + result.wins(Player.B) + result.draws()).isEqualTo(games);
+
+        long firstMoves = 0;
+        for (int n = 1; n <= game.houses(); n++) {
+            firstMoves += result.firstMoveGames(n);
+            assertThat(result.firstMoveWins(n, Player.A) + result.firstMoveWins(n, Player.B) + result.firstMoveDraws(n))
+                .isEqualTo(result.firstMoveGames(n));
+        }
+        assertThat(firstMoves).isEqualTo(games);
+
+        long[] lengths = result.lengthHistogram();
+        long moves = 0;
+        for (int i = 0; i < lengths.length; i++) {
+            moves += i * lengths[i];
+        }
+        assertThat(Arrays.stream(lengths).sum()).isEqualTo(games);
+        assertThat(moves).isEqualTo(result.moves());
+        assertThat(result.extraTurnRate()).isBetween(0.0, 1.0);
+        assertThat(result.captureRate()).isBetween(0.0, 1.0);
+    }
+
+    @Property(tries = 10)
+    public void testResultsOnlyDependOnSeed(@ForAll @IntRange(min = 1, max = 8) int houses, @ForAll long seed) {
+        var simulator = new Simulator(houses, 3);
+        var single = simulator.run(3000, seed, new ForkJoinPool(1));
+        var parallel = simulator.run(3000, seed, new ForkJoinPool(4));
+
+        assertThat(parallel.moves()).isEqualTo(single.moves());
+        assertThat(parallel.wins(Player.A)).isEqualTo(single.wins(Player.A));
+        assertThat(parallel.draws()).isEqualTo(single.draws());
+        assertThat(parallel.extraTurnRate()).isEqualTo(single.extraTurnRate());
+        assertThat(parallel.captureRate()).isEqualTo(single.captureRate());
+        assertThat(parallel.lengthHistogram()).containsExactly(single.lengthHistogram());
+        for (int n = 1; n <= houses; n++) {
+            assertThat(parallel.firstMoveWins(n, Player.B)).isEqualTo(single.firstMoveWins(n, Player.B));
+        }
+    }
+
+    @Example
+    public void testFinishedPosition() {
+        var game = new Game(new int[] { 0, 3, 0, 1 }, GameState.FINISHED, Player.A);
+        var result = new Simulator(game.snapshot()).run(10, 1);
+
+        assertThat(game.isOver()).isTrue();
+        assertThat(result.games()).isEqualTo(10);
+        assertThat(result.moves()).isZero();
+        assertThat(result.wins(Player.A)).isEqualTo(10);
+        assertThat(result.lengthHistogram()).containsExactly(10);
+        assertThat(result.firstMoveGames(1)).isZero();
+    }
+
+    @Example
+    public void testCannotRunNegativeGames() {
+        assertThatThrownBy(() -> new Simulator(6, 4).run(-1, 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Property(tries = 10)
+    public void testCannotAskForHouseOutOfRange(@ForAll @IntRange(min = 1, max = 8) int houses, @ForAll int n) {
+        var result = new Simulator(houses, 3).run(1, 1);
+        if (n < 1 || n > houses) {
+            assertThatThrownBy(() -> result.firstMoveGames(n))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
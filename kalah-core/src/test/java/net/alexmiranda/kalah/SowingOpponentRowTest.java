@@ -0,0 +1,43 @@
+package net.alexmiranda.kalah;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+
+public class SowingOpponentRowTest {
+    private final GameState sut = GameState.SOWING_OPPONENT_ROW;
+
+    @Example
+    public void testCannotBeginTurn() {
+        assertThatThrownBy(() -> sut.beginTurn(null, 0))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Example
+    public void testEndTurn() {
+        var game = mock(Game.class);
+        sut.endTurn(game, 0);
+        verify(game, times(1)).switchPlayer();
+        verify(game, times(1)).setState(GameState.WAITING);
+    }
+
+    @Example
+    public void testGameOverAfterEndingTurn() {
+        var game = mock(Game.class);
+        when(game.checkGameOver()).thenReturn(true);
+        sut.endTurn(game, 0);
+        verify(game, times(1)).setState(GameState.FINISHED);
+        verify(game, times(1)).terminate();
+        verify(game, never()).switchPlayer();
+    }
+}
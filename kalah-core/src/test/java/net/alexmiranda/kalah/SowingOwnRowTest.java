@@ -0,0 +1,83 @@
+package net.alexmiranda.kalah;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+
+public class SowingOwnRowTest {
+    private final GameState sut = GameState.SOWING_OWN_ROW;
+
+    @Property
+    public void testEndTurnHouse(@ForAll @IntRange(min = 2) int seeds, @ForAll @IntRange(min = 0) int pit) {
+        var game = mock(Game.class);
+        when(game.holdsOneSeed(pit)).thenReturn(seeds == 1);
+        sut.endTurn(game, pit);
+        verify(game, times(1)).setState(GameState.WAITING);
+        verify(game, times(1)).switchPlayer();
+        verify(game, never()).captureIntoStore(anyInt());
+    }
+
+    @Property
+    public void testEndTurnStore(@ForAll @IntRange(min = 0) int pit) {
+        var game = mock(Game.class);
+        when(game.isStore(pit)).thenReturn(true);
+        sut.endTurn(game, pit);
+        verify(game, times(1)).setState(GameState.WAITING);
+        verify(game, never()).switchPlayer();
+        verify(game, never()).captureIntoStore(anyInt());
+    }
+
+    @Property
+    public void testGameOverAfterEndingTurnStore(@ForAll @IntRange(min = 0) int pit) {
+        var game = mock(Game.class);
+        when(game.isStore(pit)).thenReturn(true);
+        when(game.checkGameOver()).thenReturn(true);
+        when(game.checkGameOver(anyBoolean())).thenReturn(true);
+        sut.endTurn(game, pit);
+        verify(game, times(1)).setState(GameState.FINISHED);
+        verify(game, times(1)).terminate();
+        verify(game, never()).captureIntoStore(anyInt());
+        verify(game, never()).switchPlayer();
+    }
+
+    @Property
+    public void testEndTurnEmptyHouse(@ForAll @IntRange(min = 0) int pit) {
+        var game = mock(Game.class);
+        when(game.holdsOneSeed(pit)).thenReturn(true); // last seed dropped, thus it has exactly one seed
+        sut.endTurn(game, pit);
+        verify(game, times(1)).captureIntoStore(pit);
+        verify(game, times(1)).setState(GameState.WAITING);
+        verify(game, times(1)).switchPlayer();
+    }
+
+    @Property
+    public void testGameOverAfterEndingTurnEmptyHouse(@ForAll @IntRange(min = 0) int pit) {
+        var game = mock(Game.class);
+        when(game.holdsOneSeed(pit)).thenReturn(true); // last seed dropped, thus it has exactly one seed
+        when(game.checkGameOver()).thenReturn(true);
+        when(game.checkGameOver(anyBoolean())).thenReturn(true);
+        sut.endTurn(game, pit);
+        verify(game, times(1)).setState(GameState.FINISHED);
+        verify(game, times(1)).terminate();
+        verify(game, times(1)).captureIntoStore(pit);
+        verify(game, never()).switchPlayer();
+    }
+
+    @Example
+    public void testCannotBeginTurn() {
+        assertThatThrownBy(() -> sut.beginTurn(null, 0))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -0,0 +1,201 @@
+package net.alexmiranda.kalah;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Assume;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.Size;
+
+public class SparseGameTest {
+    @Property
+    public void testMatchesGame(@ForAll(supplier = NewGameSupplier.class) Game game, @ForAll @Size(max = 80) List<@IntRange(min = -1, max = GameTest.MAX_HOUSES * 2 + 3) Integer> pits) {
+        var sut = new SparseGame(game.houses(), game.seeds());
+        assertSame(sut, game);
+        for (int pit : pits) {
+            Class<?> expected = null;
+            try {
+                game.play(pit);
+            } catch (RuntimeException e) {
+                expected = e.getClass();
+            }
+            if (expected == null) {
+                sut.play(pit);
+            } else {
+                assertThatThrownBy(() -> sut.play(pit)).isInstanceOf(expected);
+            }
+            assertSame(sut, game);
+        }
+        assertThat(sut.pits()).containsExactlyEntriesOf(game.pits());
+    }
+
+    @Property
+    public void testTryPlayMatchesGame(@ForAll(supplier = NewGameSupplier.class) Game game, @ForAll @Size(max = 80) List<@IntRange(min = 1, max = GameTest.MAX_HOUSES) Integer> moves) {
+        var sut = new SparseGame(game.houses(), game.seeds());
+        for (int n : moves) {
+            var position = game.player().house(n);
+            assertThat(sut.tryPlay(position)).isEqualTo(game.tryPlay(position));
+            assertSame(sut, game);
+        }
+    }
+
+    @Property
+    public void testPositionNames(@ForAll @IntRange(min = 1, max = 12) int houses, @ForAll("positions") String position) {
+        var game = new Game(houses, 2);
+        var sut = new SparseGame(houses, 2);
+        int pit = game.pits().containsKey(position) ? new ArrayList<>(game.pits().keySet()).indexOf(position) : -1;
+        if (pit < 0) {
+            assertThat(sut.tryPlay(position)).isEqualTo(MoveResult.UNKNOWN);
+        } else {
+            assertThat(sut.tryPlay(position)).isEqualTo(game.tryPlay(position));
+        }
+    }
+
+    @Provide
+    @SuppressWarnings("unchecked")
+    public Arbitrary<String> positions() {
+        return Arbitraries.oneOf(
+            Arbitraries.of("SA", "SB", "SC", "A", "B", "A0", "A01", "a1", "B-1", "A1x", "", "A99999999999"),
+            Arbitraries.integers().between(0, 14).map(n -> "A" + n),
+            Arbitraries.integers().between(0, 14).map(n -> "B" + n));
+    }
+
+    @Example
+    @SuppressWarnings("unchecked")
+    public void testHugeSparseBoard() {
+        int houses = 1_000_000;
+        var game = new SparseGame(houses, new int[] { 0, 5, houses + 1, houses + 3, houses * 2 + 1 }, new int[] { 2, 1, 3, 2, 4 }, Player.A);
+
+        assertThat(game.nonEmptyHouses()).isEqualTo(4);
+        assertThat(game.nonEmptyPits()).containsExactly(
+            entry("A1", 2), entry("A6", 1), entry("B1", 3), entry("B3", 2), entry("SB", 4));
+
+        game.play("A1");
+
+        // the last seed lands on the empty A3, which captures it even though B999998 is empty
+        assertThat(game.nonEmptyPits()).containsExactly(
+            entry("A2", 1), entry("A6", 1), entry("SA", 1), entry("B1", 3), entry("B3", 2), entry("SB", 4));
+        assertThat(game.player()).isEqualTo(Player.B);
+
+        game.play("B3");
+
+        assertThat(game.nonEmptyPits()).containsExactly(
+            entry("A2", 1), entry("A6", 1), entry("SA", 1), entry("B1", 3), entry("B4", 1), entry("SB", 5));
+        assertThat(game.nonEmptyHouses()).isEqualTo(4);
+    }
+
+    @Example
+    @SuppressWarnings("unchecked")
+    public void testCaptureOnHugeBoard() {
+        int houses = 100_000;
+        int opposite = houses * 2 - 2; // opposite of A3
+        var game = new SparseGame(houses, new int[] { 1, opposite, houses * 2 + 1 }, new int[] { 1, 5, houses * 2 - 6 }, Player.A);
+
+        game.play("A2");
+
+        assertThat(game.nonEmptyPits()).containsExactly(entry("SA", 6), entry("SB", houses * 2 - 6));
+        assertThat(game.isOver()).isTrue();
+        assertThat(game.winner()).contains(Player.B);
+    }
+
+    @Example
+    public void testNonEmptyPitsIsLiveView() {
+        var game = new SparseGame(1_000, 1);
+        var pits = game.nonEmptyPits();
+
+        assertThat(pits).hasSize(2_000).containsEntry("A1", 1).doesNotContainKey("SA").doesNotContainKey("A1001");
+        game.play("A1000");
+
+        assertThat(game.nonEmptyPits()).isSameAs(pits);
+        assertThat(pits).hasSize(2_000).containsEntry("SA", 1).doesNotContainKey("A1000");
+        assertThat(pits.get("A1000")).isNull();
+    }
+
+    @Example
+    public void testPitsIsLiveViewOfEveryPit() {
+        var game = new SparseGame(3, 2);
+        var dense = new Game(3, 2);
+        var pits = game.pits();
+
+        assertThat(pits).hasSize(8).containsEntry("A3", 2).containsEntry("SA", 0).doesNotContainKey("A4");
+        game.play("A3");
+        dense.play("A3");
+
+        assertThat(game.pits()).isSameAs(pits);
+        assertThat(pits).containsExactlyEntriesOf(dense.pits());
+        var visited = new int[8];
+        game.forEachPit((pit, seeds) -> visited[pit] = seeds);
+        var expected = new int[8];
+        dense.forEachPit((pit, seeds) -> expected[pit] = seeds);
+        assertThat(visited).containsExactly(expected);
+    }
+
+    @Property(tries = 20)
+    public void testRandomGamesOnWideBoards(@ForAll @IntRange(min = 50, max = 2000) int houses, @ForAll long seed) {
+        var random = new SplittableRandom(seed);
+        var pits = new int[] { random.nextInt(houses), houses + 1 + random.nextInt(houses), random.nextInt(houses) };
+        Assume.that(pits[0] != pits[2]);
+        int total = houses * 2 * 2;
+        var game = new SparseGame(houses, pits, new int[] { houses, houses, total - 2 * houses }, Player.A);
+        var dense = new Game(toDense(houses, pits, new int[] { houses, houses, total - 2 * houses }), GameState.WAITING, Player.A);
+
+        while (!game.isOver()) {
+            var moves = new ArrayList<Integer>();
+            game.forEachNonEmptyPit((pit, seeds) -> {
+                if (pit != game.storeIndex(game.player()) && pit != game.storeIndex(game.player().opponent())
+                    && (pit < houses) == (game.player() == Player.A)) {
+                    moves.add(pit);
+                }
+            });
+            int pit = moves.get(random.nextInt(moves.size()));
+            game.play(pit);
+            dense.play(pit);
+            assertSame(game, dense);
+        }
+    }
+
+    @Example
+    public void testCannotCreateInvalidGame() {
+        assertThatThrownBy(() -> new SparseGame(0, 4)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SparseGame(6, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SparseGame(1, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SparseGame(1 << 20, 1 << 12)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SparseGame(4, new int[] { 1, 1 }, new int[] { 4, 4 }, Player.A))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SparseGame(4, new int[] { 10 }, new int[] { 8 }, Player.A))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void assertSame(SparseGame sut, Game game) {
+        var nonEmpty = new LinkedHashMap<String, Integer>();
+        game.pits().forEach((position, seeds) -> {
+            if (seeds > 0) {
+                nonEmpty.put(position, seeds);
+            }
+        });
+        assertThat(sut.nonEmptyPits()).containsExactlyEntriesOf(nonEmpty);
+        assertThat(sut.player()).isEqualTo(game.player());
+        assertThat(sut.isOver()).isEqualTo(game.isOver());
+        assertThat(sut.winner()).isEqualTo(game.winner());
+    }
+
+    private static int[] toDense(int houses, int[] pits, int[] seeds) {
+        var board = new int[houses * 2 + 2];
+        for (int i = 0; i < pits.length; i++) {
+            board[pits[i]] = seeds[i];
+        }
+        return board;
+    }
+}
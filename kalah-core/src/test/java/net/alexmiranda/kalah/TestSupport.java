@@ -1,6 +1,10 @@
 package net.alexmiranda.kalah;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 
 class TestSupport {
     static boolean newGamePreconditions(int houses, int seeds) {
@@ -44,6 +48,18 @@ class TestSupport {
         return Integer.parseInt(position.substring(1)) - 1;
     }
 
+    // plays each move as a house of the player to move, wrapped to the board,
+    // up to the end of the game or the first empty house
+    static void replay(Game game, List<Integer> moves) {
+        for (int n : moves) {
+            int pit = game.houseIndex(game.player(), (n - 1) % game.houses() + 1);
+            if (game.isOver() || game.seedsAt(pit) == 0) {
+                break;
+            }
+            game.play(pit);
+        }
+    }
+
     static int sum(int[] arr) {
         int sum = 0;
         for (int n : arr) {
@@ -59,4 +75,24 @@ class TestSupport {
         }
         return sum;
     }
+
+    // a nanoTime stand-in that moves forward by one tick on every read, so
+    // deadlines fall after a known number of reads however fast the machine
+    static final class TickingClock implements LongSupplier {
+        private final long tick;
+        private final AtomicLong reads = new AtomicLong();
+
+        TickingClock(Duration tick) {
+            this.tick = tick.toNanos();
+        }
+
+        @Override
+        public long getAsLong() {
+            return this.reads.getAndIncrement() * this.tick;
+        }
+
+        long reads() {
+            return this.reads.get();
+        }
+    }
 }
@@ -0,0 +1,76 @@
+package net.alexmiranda.kalah;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import net.jqwik.api.Assume;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+
+public class TopologyTest {
+    @Property
+    public void testIsShared(@ForAll @IntRange(min = 1, max = Topology.CACHED_HOUSES) int houses) {
+        assertThat(Topology.of(houses)).isSameAs(Topology.of(houses));
+    }
+
+    @Property(tries = 20)
+    public void testWideTopologiesAreShared(@ForAll @IntRange(min = Topology.CACHED_HOUSES + 1, max = 10_000) int houses) {
+        var topology = Topology.of(houses);
+        assertThat(Topology.of(houses)).isSameAs(topology);
+        assertThat(topology.houses()).isEqualTo(houses);
+    }
+
+    @Example
+    public void testOnlyRecentWideTopologiesAreKept() {
+        int first = Topology.CACHED_HOUSES + 1;
+        var topology = Topology.of(first);
+        for (int houses = first + 1; houses <= first + Topology.WIDE_ENTRIES; houses++) {
+            Topology.of(houses);
+        }
+        assertThat(Topology.of(first)).isNotSameAs(topology);
+    }
+
+    @Property
+    public void testCannotHaveTopologyWithoutHouses(@ForAll @IntRange(max = 0) int houses) {
+        assertThatThrownBy(() -> Topology.of(houses))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Property
+    public void testNamesAreInterned(@ForAll @IntRange(min = 1, max = 50) int houses, @ForAll Player player, @ForAll @IntRange(min = 1, max = 50) int n) {
+        Assume.that(n <= houses);
+        var topology = Topology.of(houses);
+        int pit = topology.house(player, n);
+        assertThat(topology.name(pit)).isSameAs(player.house(n).intern());
+        assertThat(topology.indexOf(player.house(n))).isEqualTo(pit);
+        assertThat(topology.name(topology.store(player))).isSameAs(player.store().intern());
+    }
+
+    @Property
+    public void testNextAndPreviousSkipOpponentStore(@ForAll @IntRange(min = 1, max = 50) int houses, @ForAll Player player) {
+        var topology = Topology.of(houses);
+        int skipped = topology.store(player.opponent());
+        int pit = topology.house(player, 1);
+        for (int i = 0; i < topology.length() - 1; i++) {
+            int next = topology.next(player, pit);
+            assertThat(next).isNotEqualTo(skipped);
+            assertThat(topology.previous(player, next)).isEqualTo(pit);
+            pit = next;
+        }
+        assertThat(pit).isEqualTo(topology.house(player, 1));
+    }
+
+    @Property
+    public void testPlanFollowsNext(@ForAll @IntRange(min = 1, max = 20) int houses, @ForAll Player player, @ForAll @IntRange(min = 1, max = 20) int n, @ForAll @IntRange(max = 200) int seeds) {
+        Assume.that(n <= houses);
+        var topology = Topology.of(houses);
+        int start = topology.house(player, n);
+        int pit = start;
+        for (int i = 0; i < seeds; i++) {
+            pit = topology.next(player, pit);
+        }
+        assertThat(topology.plan(start, seeds)).isEqualTo(pit);
+    }
+}
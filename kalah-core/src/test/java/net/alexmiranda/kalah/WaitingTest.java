@@ -15,23 +15,17 @@ public class WaitingTest {
     private final GameState sut = GameState.WAITING;
 
     @Property
-    public void testBeginTurn(@ForAll @IntRange(min = 1) int seeds, @ForAll Player player) {
-        var house = new House(seeds, player);
+    public void testBeginTurn(@ForAll @IntRange(min = 1) int seeds, @ForAll @IntRange(min = 0) int pit) {
         var game = mock(Game.class);
-        when(game.player()).thenReturn(player);
-        sut.beginTurn(game, house);
-        verify(game, times(1)).accept(house, seeds);
-    }
-
-    @Example
-    public void testCannotVisit() {
-        assertThatThrownBy(() -> sut.visit(null, null, 0))
-            .isInstanceOf(UnsupportedOperationException.class);
+        when(game.select(pit)).thenReturn(seeds);
+        sut.beginTurn(game, pit);
+        verify(game, times(1)).setState(GameState.SOWING_OWN_ROW);
+        verify(game, times(1)).accept(pit, seeds);
     }
 
     @Example
     public void testCannotEndTurn() {
-        assertThatThrownBy(() -> sut.endTurn(null, null))
+        assertThatThrownBy(() -> sut.endTurn(null, 0))
             .isInstanceOf(UnsupportedOperationException.class);
     }
 }
@@ -0,0 +1,144 @@
+package net.alexmiranda.kalah;
+
+import static jdk.incubator.vector.VectorOperators.EQ;
+import static jdk.incubator.vector.VectorOperators.GE;
+import static jdk.incubator.vector.VectorOperators.LT;
+import static jdk.incubator.vector.VectorOperators.NE;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorSpecies;
+
+// Same turn as ScalarBatchEngine with one lane per game: the branches become
+// lane masks and every pit column is updated for the whole vector at once.
+final class VectorBatchEngine implements BatchEngine {
+    static final int MAX_HOUSES = 15; // so that a lap of pits fits in an int bit set
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    // C2 boxes vectors carried around a loop, so the pit loops accumulate in
+    // memory instead: one row of lanes each for the landing pit, the pit
+    // opposite it and the two rows
+    private static final int SCRATCH = 4;
+    private static final int LAST = 0;
+    private static final int OPPOSITE = 1;
+    private static final int ROW_A = 2;
+    private static final int ROW_B = 3;
+
+    // each batch has an engine of its own, so the scratch is not shared
+    private final int[] lanes = new int[SCRATCH * SPECIES.length()];
+
+    @Override
+    public int play(GameBatch batch, int start, int end) {
+        assert batch.houses <= MAX_HOUSES;
+        int bound = start + SPECIES.loopBound(end - start);
+        for (int g = start; g < bound; g += SPECIES.length()) {
+            this.play(batch, g);
+        }
+        return bound;
+    }
+
+    private void play(GameBatch batch, int g) {
+        var from = IntVector.fromArray(SPECIES, batch.from, g);
+        var active = from.compare(GE, 0);
+        if (!active.anyTrue()) {
+            return;
+        }
+
+        int[] pits = batch.pits;
+        int size = batch.size;
+        int houses = batch.houses;
+        int length = batch.length;
+        int lap = length - 1;
+        int[] lanes = this.lanes;
+        var zero = IntVector.zero(SPECIES);
+        var player = IntVector.fromArray(SPECIES, batch.players, g);
+        var isB = player.compare(NE, 0);
+        var laps = IntVector.fromArray(SPECIES, batch.laps, g);
+        var left = IntVector.fromArray(SPECIES, batch.left, g);
+
+        // ranks count pits in sowing order from the mover's first house, so
+        // the opponent store always has the one rank (lap) that is skipped
+        var first = zero.blend(houses + 1, isB);
+        var origin = from.sub(first);
+        var lastRank = origin.add(left);
+        lastRank = lastRank.sub(lap, lastRank.compare(GE, lap));
+        var last = first.add(lastRank);
+        last = last.sub(length, last.compare(GE, length));
+        var opposite = last.neg().add(length - 2);
+
+        var window = IntVector.fromArray(SPECIES, batch.windows, g);
+
+        // sow, noting what the landing pit and the one opposite it hold afterwards
+        int n = SPECIES.length();
+        zero.intoArray(lanes, LAST * n);
+        zero.intoArray(lanes, OPPOSITE * n);
+        for (int pit = 0; pit < length - 1; pit++) {
+            if (pit != houses) {
+                int offset = pit * size + g;
+                var column = IntVector.fromArray(SPECIES, pits, offset)
+                    .add(laps)
+                    .add(1, window.and(1 << pit).compare(NE, 0));
+                column.intoArray(pits, offset);
+                IntVector.fromArray(SPECIES, lanes, LAST * n)
+                    .blend(column, last.compare(EQ, pit))
+                    .intoArray(lanes, LAST * n);
+                IntVector.fromArray(SPECIES, lanes, OPPOSITE * n)
+                    .blend(column, opposite.compare(EQ, pit))
+                    .intoArray(lanes, OPPOSITE * n);
+            }
+        }
+        var lastSeeds = IntVector.fromArray(SPECIES, lanes, LAST * n);
+        var oppositeSeeds = IntVector.fromArray(SPECIES, lanes, OPPOSITE * n);
+        var captured = lastSeeds.compare(EQ, 1).and(lastRank.compare(LT, houses)).and(active);
+        var capturedSeeds = zero.blend(oppositeSeeds.add(1), captured);
+
+        // capture, or-ing each row together to find the empty ones
+        zero.intoArray(lanes, ROW_A * n);
+        zero.intoArray(lanes, ROW_B * n);
+        for (int pit = 0; pit < length - 1; pit++) {
+            if (pit != houses) {
+                int offset = pit * size + g;
+                var taken = last.compare(EQ, pit).or(opposite.compare(EQ, pit)).and(captured);
+                var column = IntVector.fromArray(SPECIES, pits, offset).blend(zero, taken);
+                column.intoArray(pits, offset);
+                int row = (pit < houses ? ROW_A : ROW_B) * n;
+                IntVector.fromArray(SPECIES, lanes, row).or(column).intoArray(lanes, row);
+            }
+        }
+
+        int offsetA = houses * size + g;
+        int offsetB = (length - 1) * size + g;
+        var storeA = IntVector.fromArray(SPECIES, pits, offsetA)
+            .add(laps.blend(zero, isB))
+            .add(1, window.and(1 << houses).compare(NE, 0))
+            .add(capturedSeeds.blend(zero, isB));
+        var storeB = IntVector.fromArray(SPECIES, pits, offsetB)
+            .add(zero.blend(laps, isB))
+            .add(1, window.and(1 << (length - 1)).compare(NE, 0))
+            .add(zero.blend(capturedSeeds, isB));
+
+        var emptyA = IntVector.fromArray(SPECIES, lanes, ROW_A * n).compare(EQ, 0);
+        var emptyB = IntVector.fromArray(SPECIES, lanes, ROW_B * n).compare(EQ, 0);
+        var moverEmpty = emptyA.and(isB.not()).or(emptyB.and(isB));
+        var over = lastRank.compare(GE, houses).and(moverEmpty)
+            .or(captured.and(emptyA.or(emptyB)))
+            .and(active);
+        storeA.intoArray(pits, offsetA);
+        storeB.intoArray(pits, offsetB);
+        if (over.anyTrue()) {
+            for (int pit = 0; pit < length - 1; pit++) {
+                if (pit != houses) {
+                    int offset = pit * size + g;
+                    int store = pit < houses ? offsetA : offsetB;
+                    var column = IntVector.fromArray(SPECIES, pits, offset);
+                    IntVector.fromArray(SPECIES, pits, store).add(zero.blend(column, over)).intoArray(pits, store);
+                    column.blend(zero, over).intoArray(pits, offset);
+                }
+            }
+        }
+
+        var switched = lastRank.compare(NE, houses).and(over.not()).and(active);
+        player.blend(player.neg().add(1), switched).intoArray(batch.players, g);
+        IntVector.fromArray(SPECIES, batch.finished, g).blend(1, over).intoArray(batch.finished, g);
+    }
+}
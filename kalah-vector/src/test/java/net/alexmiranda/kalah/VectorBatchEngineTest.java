@@ -0,0 +1,63 @@
+package net.alexmiranda.kalah;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.SplittableRandom;
+
+import net.jqwik.api.Assume;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+
+public class VectorBatchEngineTest {
+    @Example
+    public void testVectorEngineIsAvailable() {
+        // surefire adds the incubator module, so GameBatch finds the engine on the class path
+        assertThat(GameBatch.isVectorized()).isTrue();
+    }
+
+    @Property(tries = 200)
+    public void testVectorEngineMatchesGame(@ForAll @IntRange(min = 1, max = 8) int houses, @ForAll @IntRange(min = 1, max = 8) int seeds, @ForAll @IntRange(min = 1, max = 40) int games, @ForAll long seed) {
+        Assume.that(houses > 1 || seeds > 1);
+        var batch = new GameBatch(houses, seeds, games, new VectorBatchEngine());
+        assertMatchesGame(batch, new SplittableRandom(seed));
+    }
+
+    @Property(tries = 50)
+    public void testDefaultEngineMatchesGame(@ForAll @IntRange(min = 1, max = 16) int houses, @ForAll @IntRange(min = 1, max = 4) int seeds, @ForAll @IntRange(min = 1, max = 20) int games, @ForAll long seed) {
+        Assume.that(houses > 1 || seeds > 1);
+        assertMatchesGame(new GameBatch(houses, seeds, games), new SplittableRandom(seed));
+    }
+
+    private static void assertMatchesGame(GameBatch batch, SplittableRandom random) {
+        int length = batch.houses() * 2 + 2;
+        var games = new Game[batch.size()];
+        for (int g = 0; g < games.length; g++) {
+            games[g] = new Game(batch.houses(), batch.seeds());
+        }
+
+        var moves = new int[batch.size()];
+        var results = new MoveResult[batch.size()];
+        var pits = new int[length];
+        var expected = new int[length];
+        for (int round = 0; round < 200; round++) {
+            for (int g = 0; g < games.length; g++) {
+                moves[g] = random.nextInt(8) == 0
+                    ? random.nextInt(-1, length + 1)
+                    : games[g].houseIndex(games[g].player(), random.nextInt(batch.houses()) + 1);
+            }
+
+            batch.play(moves, results);
+
+            for (int g = 0; g < games.length; g++) {
+                assertThat(results[g]).isEqualTo(games[g].tryPlay(moves[g]));
+                batch.copyInto(g, pits);
+                games[g].copyInto(expected);
+                assertThat(pits).containsExactly(expected);
+                assertThat(batch.player(g)).isEqualTo(games[g].player());
+                assertThat(batch.isOver(g)).isEqualTo(games[g].isOver());
+            }
+        }
+    }
+}